@@ -0,0 +1,29 @@
+import http from 'k6/http';
+import { check } from 'k6';
+
+// Every load generator task receives its share of the total target rate via TARGET_RPS,
+// so N tasks together produce the requested throughput against TARGET_URL.
+const targetUrl = __ENV.TARGET_URL;
+const targetRps = parseInt(__ENV.TARGET_RPS || '10');
+const duration = __ENV.DURATION || '5m';
+
+export const options = {
+    discardResponseBodies: true,
+    scenarios: {
+        constant_load: {
+            executor: 'constant-arrival-rate',
+            rate: targetRps,
+            timeUnit: '1s',
+            duration: duration,
+            preAllocatedVUs: Math.max(targetRps, 10),
+            maxVUs: Math.max(targetRps * 10, 100),
+        },
+    },
+};
+
+export default function () {
+    const response = http.get(`${targetUrl}/actuator`);
+    check(response, {
+        'status is 2xx': (r) => r.status >= 200 && r.status < 300,
+    });
+}
@@ -0,0 +1,68 @@
+package com.myorg;
+
+import com.myorg.construct.ApplicationEnvironment;
+import com.myorg.construct.Cache;
+import com.myorg.util.AWSUtils;
+import com.myorg.util.DataUtil;
+import software.amazon.awscdk.App;
+import software.amazon.awscdk.Environment;
+import software.amazon.awscdk.Stack;
+import software.amazon.awscdk.StackProps;
+
+import static com.myorg.constant.InputParameters.ACCOUNT_ID;
+
+/**
+ * @author : Nguyen Van Quoc Tuan
+ * @date: 10/19/2026, Monday
+ * @description:
+ **/
+public class CacheApp {
+    public static void main(final String[] args) {
+        App app = new App();
+
+        String environmentName = (String) app
+                .getNode()
+                .tryGetContext("environmentName");
+        DataUtil.requireNonEmptyOrNull(environmentName, "context variable 'environmentName' must not be null");
+
+        String region = (String) app
+                .getNode()
+                .tryGetContext("region");
+        DataUtil.requireNonEmptyOrNull(region, "context variable 'region' must not be null");
+
+        String applicationName = (String) app.getNode().tryGetContext("applicationName");
+        DataUtil.requireNonEmptyOrNull(applicationName, "context variable 'applicationName' must not be null");
+
+        Environment awsEnvironment = AWSUtils.makeEnv(ACCOUNT_ID, region);
+
+        ApplicationEnvironment applicationEnvironment = new ApplicationEnvironment(
+                applicationName,
+                environmentName
+        );
+
+        Stack cacheStack = new Stack(
+                app,
+                "CacheStack",
+                StackProps.builder()
+                        .stackName(applicationEnvironment.prefix("Cache"))
+                        .env(awsEnvironment)
+                        .build()
+        );
+
+        Cache.CacheInputParameters cacheInputParameters = new Cache.CacheInputParameters();
+
+        String cacheMode = (String) app.getNode().tryGetContext("cacheMode");
+        if (cacheMode != null) {
+            cacheInputParameters.withMode(Cache.CacheMode.valueOf(cacheMode));
+        }
+
+        new Cache(
+                cacheStack,
+                "Cache",
+                applicationEnvironment,
+                cacheInputParameters
+        );
+
+        app.synth();
+    }
+}
@@ -49,14 +49,71 @@ public class DatabaseApp {
                         .build()
         );
 
+        Database.DatabaseInputParameters databaseInputParameters = databaseInputParameters(app);
+
         Database database = new Database(
                 databaseStack,
                 "Database",
                 awsEnvironment,
                 applicationEnvironment,
-                new Database.DatabaseInputParameters()
+                databaseInputParameters
         );
 
         app.synth();
     }
+
+    /**
+     * The database parameters from the context variables. The service stack reads the same context variables
+     * to size its connection pools for this database.
+     */
+    static Database.DatabaseInputParameters databaseInputParameters(App app) {
+        Database.DatabaseInputParameters databaseInputParameters = new Database.DatabaseInputParameters();
+
+        String databaseEngine = (String) app.getNode().tryGetContext("databaseEngine");
+        if (databaseEngine != null) {
+            databaseInputParameters.withEngine(Database.DatabaseEngine.valueOf(databaseEngine));
+        }
+
+        String databaseParameterProfile = (String) app.getNode().tryGetContext("databaseParameterProfile");
+        if (databaseParameterProfile != null) {
+            databaseInputParameters.withParameterProfile(Database.DatabaseParameterProfile.valueOf(databaseParameterProfile));
+        }
+
+        String performanceInsightsRetention = (String) app.getNode().tryGetContext("performanceInsightsRetentionInDays");
+        if (performanceInsightsRetention != null) {
+            databaseInputParameters.withPerformanceInsightsRetentionInDays(Integer.parseInt(performanceInsightsRetention));
+        }
+
+        String maxAllocatedStorage = (String) app.getNode().tryGetContext("databaseMaxAllocatedStorageInGb");
+        if (maxAllocatedStorage != null) {
+            databaseInputParameters.withMaxAllocatedStorageInGb(Integer.parseInt(maxAllocatedStorage));
+        }
+
+        String multiAzMode = (String) app.getNode().tryGetContext("databaseMultiAzMode");
+        if (multiAzMode != null) {
+            databaseInputParameters.withMultiAzMode(Database.MultiAzMode.valueOf(multiAzMode));
+        }
+
+        String instanceClass = (String) app.getNode().tryGetContext("databaseInstanceClass");
+        if (instanceClass != null) {
+            databaseInputParameters.withInstanceClass(instanceClass);
+        }
+
+        String databaseProxy = (String) app.getNode().tryGetContext("databaseProxy");
+        if (databaseProxy != null) {
+            databaseInputParameters.withProxyEnabled(Boolean.parseBoolean(databaseProxy));
+        }
+
+        String readReplicaCount = (String) app.getNode().tryGetContext("readReplicaCount");
+        if (readReplicaCount != null) {
+            databaseInputParameters.withReadReplicaCount(Integer.parseInt(readReplicaCount));
+        }
+
+        String longQueryTime = (String) app.getNode().tryGetContext("databaseLongQueryTimeSeconds");
+        if (longQueryTime != null) {
+            databaseInputParameters.withLongQueryTimeSeconds(Double.parseDouble(longQueryTime));
+        }
+
+        return databaseInputParameters;
+    }
 }
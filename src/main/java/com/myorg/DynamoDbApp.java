@@ -2,12 +2,22 @@ package com.myorg;
 
 import com.myorg.construct.ApplicationEnvironment;
 import com.myorg.construct.DynamoDBTable;
+import com.myorg.construct.StreamAggregation;
 import com.myorg.util.AWSUtils;
 import com.myorg.util.DataUtil;
 import software.amazon.awscdk.App;
 import software.amazon.awscdk.Environment;
 import software.amazon.awscdk.Stack;
 import software.amazon.awscdk.StackProps;
+import software.amazon.awscdk.services.dynamodb.Attribute;
+import software.amazon.awscdk.services.dynamodb.AttributeType;
+import software.amazon.awscdk.services.dynamodb.BillingMode;
+import software.amazon.awscdk.services.dynamodb.GlobalSecondaryIndexProps;
+import software.amazon.awscdk.services.dynamodb.ProjectionType;
+import software.amazon.awscdk.services.dynamodb.TableClass;
+
+import java.util.Collections;
+import java.util.List;
 
 import static com.myorg.constant.InputParameters.ACCOUNT_ID;
 
@@ -17,6 +27,10 @@ import static com.myorg.constant.InputParameters.ACCOUNT_ID;
  * @description:
  **/
 public class DynamoDbApp {
+    static final String USER_ACTION_TABLE = "user_action";
+    static final String USER_ACTION_BY_USER_INDEX = "userId-timestamp-index";
+    static final String USER_ACTION_COUNTERS_TABLE = "user_action_counters";
+
     public static void main(final String[] args){
 
         App app = new App();
@@ -46,13 +60,60 @@ public class DynamoDbApp {
                 .env(awsEnvironment)
                 .build());
 
-        new DynamoDBTable(
+        DynamoDBTable.DynamoDBInputParameters inputParameters = userActionTable(Collections.emptyList());
+
+        String billingMode = (String) app.getNode().tryGetContext("dynamoDbBillingMode");
+        if (billingMode != null) {
+            inputParameters.withBillingMode(BillingMode.valueOf(billingMode));
+        }
+
+        String tableClass = (String) app.getNode().tryGetContext("dynamoDbTableClass");
+        if (tableClass != null) {
+            inputParameters.withTableClass(TableClass.valueOf(tableClass));
+        }
+
+        String daxEnabled = (String) app.getNode().tryGetContext("dax");
+        if (daxEnabled != null) {
+            inputParameters.withDaxEnabled(Boolean.parseBoolean(daxEnabled));
+        }
+
+        // The counters of the user actions per user and day are kept up to date from the stream of the table.
+        boolean countersEnabled = Boolean.parseBoolean((String) app.getNode().tryGetContext("counters"));
+        inputParameters.withStreamEnabled(countersEnabled);
+
+        DynamoDBTable userActionTable = new DynamoDBTable(
                 dynamoDbStack,
                 "BreadcrumbTable",
                 applicationEnvironment,
-                new DynamoDBTable.DynamoDBInputParameters("user_action")
+                inputParameters
         );
 
+        if (countersEnabled) {
+            new StreamAggregation(
+                    dynamoDbStack,
+                    "UserActionCounters",
+                    applicationEnvironment,
+                    userActionTable,
+                    new StreamAggregation.StreamAggregationInputParameters(USER_ACTION_COUNTERS_TABLE)
+            );
+        }
+
         app.synth();
     }
+
+    /**
+     * The table of the user actions, with an index to query the actions of a user by time range
+     * (the timestamp being an ISO-8601 string), for example the actions of the last day. Actions with an
+     * "expiresAt" attribute (seconds since the epoch) are moved into the S3 archive once they expired.
+     */
+    static DynamoDBTable.DynamoDBInputParameters userActionTable(List<String> replicationRegions) {
+        return new DynamoDBTable.DynamoDBInputParameters(USER_ACTION_TABLE, replicationRegions)
+                .withTimeToLiveAttribute("expiresAt")
+                .withGlobalSecondaryIndexes(List.of(GlobalSecondaryIndexProps.builder()
+                        .indexName(USER_ACTION_BY_USER_INDEX)
+                        .partitionKey(Attribute.builder().name("userId").type(AttributeType.STRING).build())
+                        .sortKey(Attribute.builder().name("timestamp").type(AttributeType.STRING).build())
+                        .projectionType(ProjectionType.ALL)
+                        .build()));
+    }
 }
@@ -0,0 +1,62 @@
+package com.myorg;
+
+import com.myorg.construct.ApplicationEnvironment;
+import com.myorg.construct.EventIngestion;
+import com.myorg.util.AWSUtils;
+import com.myorg.util.DataUtil;
+import software.amazon.awscdk.App;
+import software.amazon.awscdk.Environment;
+import software.amazon.awscdk.Stack;
+import software.amazon.awscdk.StackProps;
+
+import static com.myorg.constant.InputParameters.ACCOUNT_ID;
+
+/**
+ * @author : Nguyen Van Quoc Tuan
+ * @date: 10/19/2026, Monday
+ * @description:
+ **/
+public class EventIngestionApp {
+    public static void main(final String[] args) {
+        App app = new App();
+
+        String environmentName = (String) app
+                .getNode()
+                .tryGetContext("environmentName");
+        DataUtil.requireNonEmptyOrNull(environmentName, "context variable 'environmentName' must not be null");
+
+        String region = (String) app
+                .getNode()
+                .tryGetContext("region");
+        DataUtil.requireNonEmptyOrNull(region, "context variable 'region' must not be null");
+
+        String applicationName = (String) app.getNode().tryGetContext("applicationName");
+        DataUtil.requireNonEmptyOrNull(applicationName, "context variable 'applicationName' must not be null");
+
+        Environment awsEnvironment = AWSUtils.makeEnv(ACCOUNT_ID, region);
+
+        ApplicationEnvironment applicationEnvironment = new ApplicationEnvironment(
+                applicationName,
+                environmentName
+        );
+
+        Stack eventIngestionStack = new Stack(
+                app,
+                "EventIngestionStack",
+                StackProps.builder()
+                        .stackName(applicationEnvironment.prefix("EventIngestion"))
+                        .env(awsEnvironment)
+                        .build()
+        );
+
+        new EventIngestion(
+                eventIngestionStack,
+                "EventIngestion",
+                awsEnvironment,
+                applicationEnvironment,
+                new EventIngestion.EventIngestionInputParameters()
+        );
+
+        app.synth();
+    }
+}
@@ -0,0 +1,89 @@
+package com.myorg;
+
+import com.myorg.construct.ApplicationEnvironment;
+import com.myorg.construct.LoadTest;
+import com.myorg.util.AWSUtils;
+import com.myorg.util.DataUtil;
+import software.amazon.awscdk.App;
+import software.amazon.awscdk.Environment;
+import software.amazon.awscdk.Stack;
+import software.amazon.awscdk.StackProps;
+
+import static com.myorg.constant.InputParameters.ACCOUNT_ID;
+
+/**
+ * @author : Nguyen Van Quoc Tuan
+ * @date: 10/19/2026, Monday
+ * @description:
+ **/
+public class LoadTestApp {
+    public static void main(final String[] args) {
+        App app = new App();
+
+        String environmentName = (String) app
+                .getNode()
+                .tryGetContext("environmentName");
+        DataUtil.requireNonEmptyOrNull(environmentName, "context variable 'environmentName' must not be null");
+
+        String region = (String) app
+                .getNode()
+                .tryGetContext("region");
+        DataUtil.requireNonEmptyOrNull(region, "context variable 'region' must not be null");
+
+        String applicationName = (String) app.getNode().tryGetContext("applicationName");
+        DataUtil.requireNonEmptyOrNull(applicationName, "context variable 'applicationName' must not be null");
+
+        String scenarioPath = (String) app.getNode().tryGetContext("loadTestScenario");
+        if (scenarioPath == null) {
+            scenarioPath = "loadtest/scenario.js";
+        }
+
+        String runId = (String) app.getNode().tryGetContext("loadTestRunId");
+        if (runId == null) {
+            runId = String.valueOf(System.currentTimeMillis());
+        }
+
+        Environment awsEnvironment = AWSUtils.makeEnv(ACCOUNT_ID, region);
+
+        ApplicationEnvironment applicationEnvironment = new ApplicationEnvironment(
+                applicationName,
+                environmentName
+        );
+
+        Stack loadTestStack = new Stack(
+                app,
+                "LoadTestStack",
+                StackProps.builder()
+                        .stackName(applicationEnvironment.prefix("LoadTest"))
+                        .env(awsEnvironment)
+                        .build()
+        );
+
+        LoadTest.LoadTestInputParameters inputParameters = new LoadTest.LoadTestInputParameters(scenarioPath, runId);
+
+        String taskCount = (String) app.getNode().tryGetContext("loadTestTaskCount");
+        if (taskCount != null) {
+            inputParameters.withTaskCount(Integer.parseInt(taskCount));
+        }
+
+        String targetRps = (String) app.getNode().tryGetContext("loadTestTargetRps");
+        if (targetRps != null) {
+            inputParameters.withTargetRps(Integer.parseInt(targetRps));
+        }
+
+        String duration = (String) app.getNode().tryGetContext("loadTestDuration");
+        if (duration != null) {
+            inputParameters.withDuration(duration);
+        }
+
+        new LoadTest(
+                loadTestStack,
+                "LoadTest",
+                awsEnvironment,
+                applicationEnvironment,
+                inputParameters
+        );
+
+        app.synth();
+    }
+}
@@ -0,0 +1,188 @@
+package com.myorg;
+
+import com.myorg.construct.ApplicationEnvironment;
+import com.myorg.construct.ConnectionPoolSizing;
+import com.myorg.construct.Database;
+import com.myorg.construct.DynamoDBTable;
+import com.myorg.construct.LatencyRoutedDomain;
+import com.myorg.construct.Network;
+import com.myorg.construct.Service;
+import com.myorg.util.AWSUtils;
+import com.myorg.util.DataUtil;
+import software.amazon.awscdk.App;
+import software.amazon.awscdk.Environment;
+import software.amazon.awscdk.Stack;
+import software.amazon.awscdk.StackProps;
+import software.amazon.awscdk.services.secretsmanager.ISecret;
+import software.amazon.awscdk.services.secretsmanager.Secret;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static com.myorg.constant.InputParameters.ACCOUNT_ID;
+
+/**
+ * @author : Nguyen Van Quoc Tuan
+ * @date: 10/19/2026, Monday
+ * @description:
+ *
+ * Deploys the whole application into several regions at once. The first region of the context variable
+ * 'regions' is the primary region: it hosts the primary cluster of an Aurora global database, whose secret is
+ * replicated into the other regions, and the DynamoDB table, which is replicated into the other regions as a global
+ * table. Every other region gets a secondary cluster of the global database, which serves the reads locally and
+ * forwards the writes to the primary cluster, so the services of all regions can write. Each region gets its own
+ * network, messaging and service stacks, and a latency-based Route 53 record with a health check on its load balancer.
+ **/
+public class MultiRegionApp {
+    public static void main(final String[] args) {
+        App app = new App();
+
+        String environmentName = (String) app
+                .getNode()
+                .tryGetContext("environmentName");
+        DataUtil.requireNonEmptyOrNull(environmentName, "context variable 'environmentName' must not be null");
+
+        String regionList = (String) app
+                .getNode()
+                .tryGetContext("regions");
+        DataUtil.requireNonEmptyOrNull(regionList, "context variable 'regions' must not be null");
+
+        String applicationName = (String) app.getNode().tryGetContext("applicationName");
+        DataUtil.requireNonEmptyOrNull(applicationName, "context variable 'applicationName' must not be null");
+
+        String springProfile = (String) app.getNode().tryGetContext("springProfile");
+        DataUtil.requireNonEmptyOrNull(springProfile, "context variable 'springProfile' must not be null");
+
+        String dockerRepositoryName = (String) app.getNode().tryGetContext("dockerRepositoryName");
+        DataUtil.requireNonEmptyOrNull(dockerRepositoryName, "context variable 'dockerRepositoryName' must not be null");
+
+        String dockerImageTag = (String) app.getNode().tryGetContext("dockerImageTag");
+        DataUtil.requireNonEmptyOrNull(dockerImageTag, "context variable 'dockerImageTag' must not be null");
+
+        String hostedZoneId = (String) app.getNode().tryGetContext("hostedZoneId");
+        DataUtil.requireNonEmptyOrNull(hostedZoneId, "context variable 'hostedZoneId' must not be null");
+
+        String domainName = (String) app.getNode().tryGetContext("domainName");
+        DataUtil.requireNonEmptyOrNull(domainName, "context variable 'domainName' must not be null");
+
+        List<String> regions = Arrays.stream(regionList.split(","))
+                .map(String::trim)
+                .filter(region -> !region.isEmpty())
+                .toList();
+        String primaryRegion = regions.get(0);
+        List<String> secondaryRegions = regions.subList(1, regions.size());
+
+        ApplicationEnvironment applicationEnvironment = new ApplicationEnvironment(
+                applicationName,
+                environmentName
+        );
+
+        Stack primaryDatabaseStack = null;
+
+        // The global table creates its replicas in the other regions, so every service depends on it.
+        Stack dynamoDbStack = new Stack(app, "DynamoDbStack-" + primaryRegion, StackProps.builder()
+                .stackName(applicationEnvironment.prefix("DynamoDb"))
+                .env(AWSUtils.makeEnv(ACCOUNT_ID, primaryRegion))
+                .build());
+        new DynamoDBTable(
+                dynamoDbStack,
+                "BreadcrumbTable",
+                applicationEnvironment,
+                DynamoDbApp.userActionTable(new ArrayList<>(secondaryRegions))
+        );
+
+        for (String region : regions) {
+            boolean primary = region.equals(primaryRegion);
+            Environment awsEnvironment = AWSUtils.makeEnv(ACCOUNT_ID, region);
+
+            Stack networkStack = new Stack(app, "NetworkStack-" + region, StackProps.builder()
+                    .stackName(environmentName + "-Network")
+                    .env(awsEnvironment)
+                    .build());
+            new Network(networkStack, "NetworkCDK", awsEnvironment, environmentName, new Network.NetworkInputParameters());
+
+            Database.DatabaseInputParameters databaseInputParameters = new Database.DatabaseInputParameters()
+                    .withEngine(Database.DatabaseEngine.AURORA_MYSQL_SERVERLESS_V2);
+            if (primary) {
+                databaseInputParameters
+                        .withGlobalClusterEnabled(true)
+                        .withSecretReplicaRegions(secondaryRegions);
+            } else {
+                databaseInputParameters.withGlobalClusterSourceRegion(primaryRegion);
+            }
+            Stack databaseStack = new Stack(app, "DatabaseStack-" + region, StackProps.builder()
+                    .stackName(applicationEnvironment.prefix("Database"))
+                    .env(awsEnvironment)
+                    .build());
+            new Database(databaseStack, "Database", awsEnvironment, applicationEnvironment, databaseInputParameters);
+            databaseStack.addDependency(networkStack);
+            if (primary) {
+                primaryDatabaseStack = databaseStack;
+            } else {
+                databaseStack.addDependency(primaryDatabaseStack);
+            }
+
+            MessagingStack messagingStack = new MessagingStack(app, "messaging-" + region, awsEnvironment, applicationEnvironment);
+
+            Stack serviceStack = new Stack(app, "ServiceStack-" + region, StackProps.builder()
+                    .stackName(applicationEnvironment.prefix("Service"))
+                    .env(awsEnvironment)
+                    .build());
+
+            // The image is pushed to the repository in the primary region only, the secondary regions pull it from there.
+            Service.DockerImageSource dockerImageSource = primary
+                    ? new Service.DockerImageSource(dockerRepositoryName, dockerImageTag)
+                    : new Service.DockerImageSource(String.format("%s.dkr.ecr.%s.amazonaws.com/%s:%s",
+                    ACCOUNT_ID, primaryRegion, dockerRepositoryName, dockerImageTag));
+
+            Network.NetworkOutputParameters networkOutputParameters = Network.getOutputParametersFromParameterStore(
+                    serviceStack, applicationEnvironment.getEnvironmentName()
+            );
+            Database.DatabaseOutputParameters databaseOutputParameters = Database.getOutputParametersFromParameterStore(serviceStack, applicationEnvironment);
+            MessagingStack.MessagingOutputParameters messagingOutputParameters = MessagingStack.getOutputParametersFromParameterStore(serviceStack, applicationEnvironment);
+
+            // The secondary clusters only publish a partial ARN of the replicated secret, so it is referenced by name.
+            ISecret databaseSecret = primary
+                    ? Secret.fromSecretCompleteArn(serviceStack, "databaseSecret", databaseOutputParameters.getDatabaseSecretArn())
+                    : Secret.fromSecretNameV2(serviceStack, "databaseSecret", applicationEnvironment.prefix("DatabaseSecret"));
+            Map<String, String> environmentVariables = ServiceApp.environmentVariables(springProfile, databaseOutputParameters, databaseSecret);
+            Service.ServiceInputParameters serviceInputParameters = new Service.ServiceInputParameters(
+                    dockerImageSource,
+                    Collections.singletonList(databaseOutputParameters.getDatabaseSecurityGroupId()),
+                    environmentVariables
+            ).withHealthCheckIntervalSeconds(20)
+                    .withHealthCheckTimeoutSeconds(15)
+                    .withUnhealthyThresholdCount(3)
+                    .withHealthyThresholdCount(2)
+                    .withHealthCheckPath("/actuator")
+                    .withTaskRolePolicyStatements(
+                            ServiceApp.taskRolePolicyStatements(region, applicationEnvironment, messagingOutputParameters)
+                    );
+
+            environmentVariables.putAll(new ConnectionPoolSizing(databaseInputParameters, serviceInputParameters).environmentVariables());
+
+            new Service(serviceStack, "service", awsEnvironment, applicationEnvironment, serviceInputParameters, networkOutputParameters);
+            serviceStack.addDependency(databaseStack);
+            serviceStack.addDependency(messagingStack);
+            serviceStack.addDependency(dynamoDbStack);
+
+            Stack dnsStack = new Stack(app, "DnsStack-" + region, StackProps.builder()
+                    .stackName(applicationEnvironment.prefix("Dns"))
+                    .env(awsEnvironment)
+                    .build());
+            new LatencyRoutedDomain(
+                    dnsStack,
+                    "LatencyRoutedDomain",
+                    awsEnvironment,
+                    applicationEnvironment,
+                    new LatencyRoutedDomain.LatencyRoutedDomainInputParameters(hostedZoneId, domainName)
+            );
+            dnsStack.addDependency(serviceStack);
+        }
+
+        app.synth();
+    }
+}
@@ -41,7 +41,22 @@ public class NetworkApp {
 
         Network.NetworkInputParameters inputParameters = new Network.NetworkInputParameters();
 
-        Network network = new Network(networkStack, "NetworkCDK", awsEnvironment, environmentName, new Network.NetworkInputParameters());
+        String maxAzs = (String) app.getNode().tryGetContext("maxAzs");
+        if (maxAzs != null) {
+            inputParameters.withMaxAzs(Integer.parseInt(maxAzs));
+        }
+
+        String accessLogs = (String) app.getNode().tryGetContext("accessLogs");
+        if (accessLogs != null) {
+            inputParameters.withAccessLogsEnabled(Boolean.parseBoolean(accessLogs));
+        }
+
+        String dualStack = (String) app.getNode().tryGetContext("dualStack");
+        if (dualStack != null) {
+            inputParameters.withDualStackEnabled(Boolean.parseBoolean(dualStack));
+        }
+
+        Network network = new Network(networkStack, "NetworkCDK", awsEnvironment, environmentName, inputParameters);
         app.synth();
     }
 }
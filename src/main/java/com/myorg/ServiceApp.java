@@ -1,7 +1,11 @@
 package com.myorg;
 
 import com.myorg.construct.ApplicationEnvironment;
+import com.myorg.construct.Cache;
+import com.myorg.construct.ConnectionPoolSizing;
 import com.myorg.construct.Database;
+import com.myorg.construct.DynamoDBTable;
+import com.myorg.construct.EventIngestion;
 import com.myorg.construct.Network;
 import com.myorg.construct.Service;
 import com.myorg.util.AWSUtils;
@@ -16,7 +20,7 @@ import software.amazon.awscdk.services.secretsmanager.ISecret;
 import software.amazon.awscdk.services.secretsmanager.Secret;
 import software.constructs.Construct;
 
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -86,55 +90,76 @@ public class ServiceApp {
         Database.DatabaseOutputParameters databaseOutputParameters = Database.getOutputParametersFromParameterStore(parametersStack, applicationEnvironment);
         MessagingStack.MessagingOutputParameters messagingOutputParameters = MessagingStack.getOutputParametersFromParameterStore(parametersStack, applicationEnvironment);
 
+        List<String> securityGroupIdsToGrantIngressFromEcs = new ArrayList<>(List.of(databaseOutputParameters.getDatabaseSecurityGroupId()));
+        Map<String, String> environmentVariables = environmentVariables(serviceStack, springProfile, databaseOutputParameters);
+
+        // The cache is optional, so the service can still be deployed without a cache stack.
+        String cacheEnabled = (String) app.getNode().tryGetContext("cache");
+        if (Boolean.parseBoolean(cacheEnabled)) {
+            Cache.CacheOutputParameters cacheOutputParameters = Cache.getOutputParametersFromParameterStore(parametersStack, applicationEnvironment);
+            securityGroupIdsToGrantIngressFromEcs.add(cacheOutputParameters.getCacheSecurityGroupId());
+            environmentVariables.putAll(cacheEnvironmentVariables(cacheOutputParameters));
+        }
+
+        List<PolicyStatement> taskRolePolicyStatements = new ArrayList<>(
+                taskRolePolicyStatements(region, applicationEnvironment, messagingOutputParameters));
+
+        // The DAX cluster is optional as well, the service reads the table directly without it.
+        String daxEnabled = (String) app.getNode().tryGetContext("dax");
+        if (Boolean.parseBoolean(daxEnabled)) {
+            DynamoDBTable.DaxOutputParameters daxOutputParameters = DynamoDBTable.getDaxOutputParametersFromParameterStore(parametersStack, applicationEnvironment);
+            securityGroupIdsToGrantIngressFromEcs.add(daxOutputParameters.getDaxSecurityGroupId());
+            environmentVariables.put("DAX_ENDPOINT", daxOutputParameters.getDaxEndpoint());
+            taskRolePolicyStatements.add(daxPolicyStatement(daxOutputParameters));
+        }
+
+        // With the event ingestion, the service puts breadcrumbs in batches into the delivery stream instead of the table.
+        String ingestionEnabled = (String) app.getNode().tryGetContext("ingestion");
+        if (Boolean.parseBoolean(ingestionEnabled)) {
+            EventIngestion.EventIngestionOutputParameters eventIngestionOutputParameters = EventIngestion.getOutputParametersFromParameterStore(parametersStack, applicationEnvironment);
+            environmentVariables.put("BREADCRUMB_DELIVERY_STREAM_NAME", eventIngestionOutputParameters.getDeliveryStreamName());
+            taskRolePolicyStatements.add(eventIngestionPolicyStatement(eventIngestionOutputParameters));
+        }
+
+        // With the counters, dashboards read the precomputed counts of the user actions instead of querying the table.
+        String countersEnabled = (String) app.getNode().tryGetContext("counters");
+        if (Boolean.parseBoolean(countersEnabled)) {
+            environmentVariables.put("COUNTERS_TABLE_NAME", applicationEnvironment.prefix(DynamoDbApp.USER_ACTION_COUNTERS_TABLE));
+            taskRolePolicyStatements.add(countersPolicyStatement(region, applicationEnvironment));
+        }
+
+        // With a migration command, the schema is migrated by a one-off task before each deployment,
+        // so the application containers only validate it instead of diffing it on every startup.
+        String migrationCommand = (String) app.getNode().tryGetContext("migrationCommand");
+        List<String> schemaMigrationCommand = migrationCommand == null || migrationCommand.isBlank()
+                ? List.of()
+                : List.of(migrationCommand.trim().split("\\s+"));
+        if (!schemaMigrationCommand.isEmpty()) {
+            environmentVariables.put("MYSQL_DDL_AUTO", "validate");
+        }
+
         Service.ServiceInputParameters serviceInputParameters = new Service.ServiceInputParameters(
                 dockerImageSource,
-                Collections.singletonList(databaseOutputParameters.getDatabaseSecurityGroupId()),
-                environmentVariables(serviceStack, springProfile, databaseOutputParameters)
+                securityGroupIdsToGrantIngressFromEcs,
+                environmentVariables
         ).withHealthCheckIntervalSeconds(20)
                 .withHealthCheckTimeoutSeconds(15)
                 .withUnhealthyThresholdCount(3)
                 .withHealthyThresholdCount(2)
                 .withHealthCheckPath("/actuator")
-                .withTaskRolePolicyStatements(
-                        List.of(
-                                PolicyStatement.Builder.create()
-                                        .sid("AllowDynamoTableAccess")
-                                        .effect(Effect.ALLOW)
-                                        .resources(
-                                                List.of(String.format("arn:aws:dynamodb:%s:%s:table/%s", region, ACCOUNT_ID, applicationEnvironment.prefix("user_action")))
-                                        )
-                                        .actions(List.of(
-                                                "dynamodb:BatchGetItem",
-                                                "dynamodb:BatchWriteItem",
-                                                "dynamodb:ConditionCheckItem",
-                                                "dynamodb:PutItem",
-                                                "dynamodb:DescribeTable",
-                                                "dynamodb:DeleteItem",
-                                                "dynamodb:GetItem",
-                                                "dynamodb:Scan",
-                                                "dynamodb:Query",
-                                                "dynamodb:UpdateItem"
-                                        ))
-                                        .build(),
-                                PolicyStatement.Builder.create()
-                                        .sid("AllowSQSAccess")
-                                        .effect(Effect.ALLOW)
-                                        .resources(List.of(
-                                                String.format("arn:aws:sqs:%s:%s:%s", region, ACCOUNT_ID, messagingOutputParameters.getTodoSharingQueueName())
-                                        ))
-                                        .actions(List.of(
-                                                "sqs:DeleteMessage",
-                                                "sqs:GetQueueUrl",
-                                                "sqs:ListDeadLetterSourceQueues",
-                                                "sqs:ListQueues",
-                                                "sqs:ListQueueTags",
-                                                "sqs:ReceiveMessage",
-                                                "sqs:SendMessage",
-                                                "sqs:ChangeMessageVisibility",
-                                                "sqs:GetQueueAttributes"))
-                                        .build()
-                        )
-                );
+                .withTaskRolePolicyStatements(taskRolePolicyStatements)
+                .withSchemaMigrationCommand(schemaMigrationCommand);
+
+        String assignPublicIp = (String) app.getNode().tryGetContext("assignPublicIp");
+        if (assignPublicIp != null) {
+            serviceInputParameters.withAssignPublicIp(Boolean.parseBoolean(assignPublicIp));
+        }
+
+        // Sized for the database that DatabaseApp creates from the same context variables.
+        environmentVariables.putAll(new ConnectionPoolSizing(
+                DatabaseApp.databaseInputParameters(app),
+                serviceInputParameters
+        ).environmentVariables());
 
         Service service = new Service(
                 serviceStack,
@@ -148,18 +173,143 @@ public class ServiceApp {
         app.synth();
     }
 
+    static List<PolicyStatement> taskRolePolicyStatements(
+            String region,
+            ApplicationEnvironment applicationEnvironment,
+            MessagingStack.MessagingOutputParameters messagingOutputParameters
+    ) {
+        String userActionTableArn = String.format("arn:aws:dynamodb:%s:%s:table/%s",
+                region, ACCOUNT_ID, applicationEnvironment.prefix(DynamoDbApp.USER_ACTION_TABLE));
+        return List.of(
+                PolicyStatement.Builder.create()
+                        .sid("AllowDynamoTableAccess")
+                        .effect(Effect.ALLOW)
+                        .resources(
+                                List.of(userActionTableArn)
+                        )
+                        .actions(List.of(
+                                "dynamodb:BatchGetItem",
+                                "dynamodb:BatchWriteItem",
+                                "dynamodb:ConditionCheckItem",
+                                "dynamodb:PutItem",
+                                "dynamodb:DescribeTable",
+                                "dynamodb:DeleteItem",
+                                "dynamodb:GetItem",
+                                "dynamodb:Query",
+                                "dynamodb:UpdateItem"
+                        ))
+                        .build(),
+                // Indexes only serve reads, so only key queries are allowed on them.
+                PolicyStatement.Builder.create()
+                        .sid("AllowDynamoIndexQuery")
+                        .effect(Effect.ALLOW)
+                        .resources(
+                                List.of(userActionTableArn + "/index/" + DynamoDbApp.USER_ACTION_BY_USER_INDEX)
+                        )
+                        .actions(List.of("dynamodb:Query"))
+                        .build(),
+                PolicyStatement.Builder.create()
+                        .sid("AllowSQSAccess")
+                        .effect(Effect.ALLOW)
+                        .resources(List.of(
+                                String.format("arn:aws:sqs:%s:%s:%s", region, ACCOUNT_ID, messagingOutputParameters.getTodoSharingQueueName())
+                        ))
+                        .actions(List.of(
+                                "sqs:DeleteMessage",
+                                "sqs:GetQueueUrl",
+                                "sqs:ListDeadLetterSourceQueues",
+                                "sqs:ListQueues",
+                                "sqs:ListQueueTags",
+                                "sqs:ReceiveMessage",
+                                "sqs:SendMessage",
+                                "sqs:ChangeMessageVisibility",
+                                "sqs:GetQueueAttributes"))
+                        .build()
+        );
+    }
+
+    /**
+     * The same data plane operations on the table as in {@link #taskRolePolicyStatements}, through the DAX cluster.
+     */
+    static PolicyStatement daxPolicyStatement(DynamoDBTable.DaxOutputParameters daxOutputParameters) {
+        return PolicyStatement.Builder.create()
+                .sid("AllowDaxAccess")
+                .effect(Effect.ALLOW)
+                .resources(List.of(daxOutputParameters.getDaxClusterArn()))
+                .actions(List.of(
+                        "dax:BatchGetItem",
+                        "dax:BatchWriteItem",
+                        "dax:ConditionCheckItem",
+                        "dax:PutItem",
+                        "dax:DescribeTable",
+                        "dax:DeleteItem",
+                        "dax:GetItem",
+                        "dax:Query",
+                        "dax:UpdateItem"
+                ))
+                .build();
+    }
+
+    /**
+     * The counters are only written by the stream aggregation, the service reads them.
+     */
+    static PolicyStatement countersPolicyStatement(String region, ApplicationEnvironment applicationEnvironment) {
+        return PolicyStatement.Builder.create()
+                .sid("AllowCountersRead")
+                .effect(Effect.ALLOW)
+                .resources(List.of(String.format("arn:aws:dynamodb:%s:%s:table/%s",
+                        region, ACCOUNT_ID, applicationEnvironment.prefix(DynamoDbApp.USER_ACTION_COUNTERS_TABLE))))
+                .actions(List.of(
+                        "dynamodb:BatchGetItem",
+                        "dynamodb:GetItem",
+                        "dynamodb:Query"
+                ))
+                .build();
+    }
+
+    static PolicyStatement eventIngestionPolicyStatement(EventIngestion.EventIngestionOutputParameters eventIngestionOutputParameters) {
+        return PolicyStatement.Builder.create()
+                .sid("AllowFirehosePutRecordBatch")
+                .effect(Effect.ALLOW)
+                .resources(List.of(eventIngestionOutputParameters.getDeliveryStreamArn()))
+                .actions(List.of("firehose:PutRecordBatch"))
+                .build();
+    }
+
+    static Map<String, String> cacheEnvironmentVariables(Cache.CacheOutputParameters cacheOutputParameters) {
+        Map<String, String> vars = new HashMap<>();
+        vars.put("SPRING_DATA_REDIS_HOST", cacheOutputParameters.getEndpointAddress());
+        vars.put("SPRING_DATA_REDIS_PORT", cacheOutputParameters.getEndpointPort());
+        // The cache only accepts TLS connections.
+        vars.put("SPRING_DATA_REDIS_SSL_ENABLED", "true");
+        return vars;
+    }
+
     static Map<String, String> environmentVariables(
             Construct scope,
             String springProfile,
             Database.DatabaseOutputParameters databaseOutputParameters
     ) {
-        Map<String, String> vars = new HashMap<>();
-
         String databaseSecretArn = databaseOutputParameters.getDatabaseSecretArn();
         ISecret databaseSecret = Secret.fromSecretCompleteArn(scope, "databaseSecret", databaseSecretArn);
+        return environmentVariables(springProfile, databaseOutputParameters, databaseSecret);
+    }
+
+    /**
+     * @param databaseSecret the secret with the credentials of the database, for databases that only publish a partial
+     *                       ARN of their secret (see {@link Database}).
+     */
+    static Map<String, String> environmentVariables(
+            String springProfile,
+            Database.DatabaseOutputParameters databaseOutputParameters,
+            ISecret databaseSecret
+    ) {
+        Map<String, String> vars = new HashMap<>();
 
         vars.put("SPRING_PROFILES_ACTIVE", springProfile);
-        vars.put("MYSQL_HOST", databaseOutputParameters.getEndpointAddress());
+        // Connect through the RDS proxy, if the database has one.
+        vars.put("MYSQL_HOST", databaseOutputParameters.getProxyEndpointAddress());
+        vars.put("MYSQL_READ_HOST", databaseOutputParameters.getReaderEndpointAddress());
         vars.put("MYSQL_PORT", databaseOutputParameters.getEndpointPort());
         vars.put("MYSQL_DATABASE", databaseOutputParameters.getDbName());
         vars.put("MYSQL_USERNAME", databaseSecret.secretValueFromJson("username").unsafeUnwrap());
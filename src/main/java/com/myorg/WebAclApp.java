@@ -0,0 +1,75 @@
+package com.myorg;
+
+import com.myorg.construct.ApplicationEnvironment;
+import com.myorg.construct.WebAcl;
+import com.myorg.util.AWSUtils;
+import com.myorg.util.DataUtil;
+import software.amazon.awscdk.App;
+import software.amazon.awscdk.Environment;
+import software.amazon.awscdk.Stack;
+import software.amazon.awscdk.StackProps;
+
+import static com.myorg.constant.InputParameters.ACCOUNT_ID;
+
+/**
+ * @author : Nguyen Van Quoc Tuan
+ * @date: 10/19/2026, Monday
+ * @description:
+ **/
+public class WebAclApp {
+    public static void main(final String[] args) {
+        App app = new App();
+
+        String environmentName = (String) app
+                .getNode()
+                .tryGetContext("environmentName");
+        DataUtil.requireNonEmptyOrNull(environmentName, "context variable 'environmentName' must not be null");
+
+        String region = (String) app
+                .getNode()
+                .tryGetContext("region");
+        DataUtil.requireNonEmptyOrNull(region, "context variable 'region' must not be null");
+
+        String applicationName = (String) app.getNode().tryGetContext("applicationName");
+        DataUtil.requireNonEmptyOrNull(applicationName, "context variable 'applicationName' must not be null");
+
+        Environment awsEnvironment = AWSUtils.makeEnv(ACCOUNT_ID, region);
+
+        ApplicationEnvironment applicationEnvironment = new ApplicationEnvironment(
+                applicationName,
+                environmentName
+        );
+
+        Stack webAclStack = new Stack(
+                app,
+                "WebAclStack",
+                StackProps.builder()
+                        .stackName(applicationEnvironment.prefix("WebAcl"))
+                        .env(awsEnvironment)
+                        .build()
+        );
+
+        WebAcl.WebAclInputParameters inputParameters = new WebAcl.WebAclInputParameters();
+
+        // Environments start in COUNT mode and are switched to BLOCK once the rules have been observed.
+        String wafMode = (String) app.getNode().tryGetContext("wafMode");
+        if (wafMode != null) {
+            inputParameters.withMode(WebAcl.WebAclMode.valueOf(wafMode.toUpperCase()));
+        }
+
+        String edgeCache = (String) app.getNode().tryGetContext("edgeCache");
+        if (edgeCache != null) {
+            inputParameters.withBehindEdgeCache(Boolean.parseBoolean(edgeCache));
+        }
+
+        new WebAcl(
+                webAclStack,
+                "WebAcl",
+                awsEnvironment,
+                applicationEnvironment,
+                inputParameters
+        );
+
+        app.synth();
+    }
+}
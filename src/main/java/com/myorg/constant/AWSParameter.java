@@ -14,12 +14,10 @@ public class AWSParameter {
     public static final String PARAMETER_HTTPS_LISTENER = "httpsListenerArn";
     public static final String PARAMETER_LOADBALANCER_SECURITY_GROUP_ID = "loadBalancerSecurityGroupId";
     public static final String PARAMETER_ECS_CLUSTER_NAME = "ecsClusterName";
-    public static final String PARAMETER_ISOLATED_SUBNET_ONE = "isolatedSubnetIdOne";
-    public static final String PARAMETER_ISOLATED_SUBNET_TWO = "isolatedSubnetIdTwo";
-    public static final String PARAMETER_PUBLIC_SUBNET_ONE = "publicSubnetIdOne";
-    public static final String PARAMETER_PUBLIC_SUBNET_TWO = "publicSubnetIdTwo";
-    public static final String PARAMETER_AVAILABILITY_ZONE_ONE = "availabilityZoneOne";
-    public static final String PARAMETER_AVAILABILITY_ZONE_TWO = "availabilityZoneTwo";
+    public static final String PARAMETER_ISOLATED_SUBNETS = "isolatedSubnetIds";
+    public static final String PARAMETER_PUBLIC_SUBNETS = "publicSubnetIds";
+    public static final String PARAMETER_PRIVATE_SUBNETS = "privateSubnetIds";
+    public static final String PARAMETER_AVAILABILITY_ZONES = "availabilityZones";
     public static final String PARAMETER_LOAD_BALANCER_ARN = "loadBalancerArn";
     public static final String PARAMETER_LOAD_BALANCER_DNS_NAME = "loadBalancerDnsName";
     public static final String PARAMETER_LOAD_BALANCER_HOSTED_ZONE_ID = "loadBalancerCanonicalHostedZoneId";
@@ -31,5 +29,21 @@ public class AWSParameter {
     public static final String PARAMETER_SECURITY_GROUP_ID = "securityGroupId";
     public static final String PARAMETER_SECRET_ARN = "secretArn";
     public static final String PARAMETER_INSTANCE_ID = "instanceId";
+    public static final String PARAMETER_PROXY_ENDPOINT_ADDRESS = "proxyEndpointAddress";
+    public static final String PARAMETER_READER_ENDPOINT_ADDRESS = "readerEndpointAddress";
     public static final String DATABASE_SECURITY_GROUP = "databaseSecurityGroup";
+
+    //dynamodb parameter
+    public static final String PARAMETER_DAX_ENDPOINT = "daxEndpoint";
+    public static final String PARAMETER_DAX_CLUSTER_ARN = "daxClusterArn";
+    public static final String PARAMETER_DAX_SECURITY_GROUP_ID = "daxSecurityGroupId";
+    public static final String PARAMETER_ARCHIVE_BUCKET_NAME = "archiveBucketName";
+
+    //event ingestion parameter
+    public static final String PARAMETER_DELIVERY_STREAM_NAME = "deliveryStreamName";
+    public static final String PARAMETER_DELIVERY_STREAM_ARN = "deliveryStreamArn";
+
+    //edge cache parameter
+    public static final String PARAMETER_DISTRIBUTION_DOMAIN_NAME = "distributionDomainName";
+    public static final String PARAMETER_DISTRIBUTION_ID = "distributionId";
 }
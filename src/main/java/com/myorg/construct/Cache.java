@@ -0,0 +1,333 @@
+package com.myorg.construct;
+
+import org.jetbrains.annotations.NotNull;
+import software.amazon.awscdk.services.ec2.CfnSecurityGroup;
+import software.amazon.awscdk.services.ec2.CfnSecurityGroupIngress;
+import software.amazon.awscdk.services.elasticache.CfnReplicationGroup;
+import software.amazon.awscdk.services.elasticache.CfnServerlessCache;
+import software.amazon.awscdk.services.elasticache.CfnSubnetGroup;
+import software.amazon.awscdk.services.ssm.StringParameter;
+import software.constructs.Construct;
+
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Optional;
+
+import static com.myorg.constant.AWSParameter.*;
+
+/**
+ * @author : Nguyen Van Quoc Tuan
+ * @date: 10/19/2026, Monday
+ * @description:
+ *
+ * Creates an ElastiCache cache (Valkey or Redis OSS) in the isolated subnets of the network, either as a replication
+ * group with a fixed node type or as a serverless cache that scales with the load. The cache has its own security group
+ * and only accepts TLS connections. Services get access by granting ingress from their security group to the security
+ * group of the cache.
+ *
+ * The following parameters need to exist in the SSM parameter store for this stack to successfully deploy:
+ *****<environmentName>-Network-vpcId: ID of the VPC to deploy the cache into.
+ *****<environmentName>-Network-isolatedSubnetIds: IDs of the isolated subnets to deploy the cache into.
+ * The stack exposes the following output parameters in the SSM parameter store to be used in other stacks:
+ ***** <environmentName>-<applicationName>-Cache-endpointAddress: URL of the cache (the primary endpoint of a replication group)
+ ***** <environmentName>-<applicationName>-Cache-endpointPort: port to access the cache
+ ***** <environmentName>-<applicationName>-Cache-securityGroupId: ID of the cache's security group
+ ***** The static getter methods provide a convenient access to retrieve these parameters from the parameter store for use in other stacks.
+ **/
+public class Cache extends Construct {
+
+    private static final int PORT = 6379;
+
+    private final CfnSecurityGroup cacheSecurityGroup;
+    private final ApplicationEnvironment applicationEnvironment;
+    private final String endpointAddress;
+    private final String endpointPort;
+
+    public Cache(
+            final Construct scope,
+            final String id,
+            final ApplicationEnvironment applicationEnvironment,
+            final CacheInputParameters cacheInputParameters) {
+
+        super(scope, id);
+
+        this.applicationEnvironment = applicationEnvironment;
+        Network.NetworkOutputParameters networkOutputParameters = Network
+                .getOutputParametersFromParameterStore(this, applicationEnvironment.getEnvironmentName());
+
+        cacheSecurityGroup = CfnSecurityGroup.Builder.create(this, "cacheSecurityGroup")
+                .vpcId(networkOutputParameters.getVpcId())
+                .groupDescription("Security Group for the cache")
+                .groupName(applicationEnvironment.prefix("cacheSecurityGroup"))
+                .build();
+
+        CfnSecurityGroupIngress cacheIngressFromSelf = CfnSecurityGroupIngress.Builder.create(this, "cacheIngressFromSelf")
+                .ipProtocol("tcp")
+                .fromPort(PORT)
+                .groupId(cacheSecurityGroup.getAttrGroupId())
+                .sourceSecurityGroupId(cacheSecurityGroup.getAttrGroupId())
+                .toPort(PORT)
+                .build();
+
+        String engine = cacheInputParameters.engine.name().toLowerCase();
+
+        if (cacheInputParameters.mode == CacheMode.SERVERLESS) {
+            CfnServerlessCache.Builder serverlessCacheBuilder = CfnServerlessCache.Builder.create(this, "serverlessCache")
+                    .serverlessCacheName(applicationEnvironment.prefix("cache"))
+                    .description("Serverless cache of " + applicationEnvironment.prefix("service"))
+                    .engine(engine)
+                    .majorEngineVersion(cacheInputParameters.engineVersion.split("\\.")[0])
+                    .subnetIds(networkOutputParameters.getIsolatedSubnets())
+                    .securityGroupIds(Collections.singletonList(cacheSecurityGroup.getAttrGroupId()));
+
+            if (cacheInputParameters.maxDataStorageInGb.isPresent() || cacheInputParameters.maxEcpuPerSecond.isPresent()) {
+                serverlessCacheBuilder.cacheUsageLimits(CfnServerlessCache.CacheUsageLimitsProperty.builder()
+                        .dataStorage(cacheInputParameters.maxDataStorageInGb
+                                .map(maximum -> CfnServerlessCache.DataStorageProperty.builder()
+                                        .unit("GB")
+                                        .maximum(maximum)
+                                        .build())
+                                .orElse(null))
+                        .ecpuPerSecond(cacheInputParameters.maxEcpuPerSecond
+                                .map(maximum -> CfnServerlessCache.ECPUPerSecondProperty.builder()
+                                        .maximum(maximum)
+                                        .build())
+                                .orElse(null))
+                        .build());
+            }
+
+            CfnServerlessCache serverlessCache = serverlessCacheBuilder.build();
+            this.endpointAddress = serverlessCache.getAttrEndpointAddress();
+            this.endpointPort = serverlessCache.getAttrEndpointPort();
+        } else {
+            CfnSubnetGroup subnetGroup = CfnSubnetGroup.Builder.create(this, "cacheSubnetGroup")
+                    .cacheSubnetGroupName(applicationEnvironment.prefix("cacheSubnetGroup"))
+                    .description("Subnet group for the cache")
+                    .subnetIds(networkOutputParameters.getIsolatedSubnets())
+                    .build();
+
+            // With more than one node, a replica in another AZ takes over if the primary fails.
+            boolean replicated = cacheInputParameters.nodeCount > 1;
+            CfnReplicationGroup replicationGroup = CfnReplicationGroup.Builder.create(this, "replicationGroup")
+                    .replicationGroupId(applicationEnvironment.prefix("cache"))
+                    .replicationGroupDescription("Cache of " + applicationEnvironment.prefix("service"))
+                    .engine(engine)
+                    .engineVersion(cacheInputParameters.engineVersion)
+                    .cacheNodeType(cacheInputParameters.nodeType)
+                    .numCacheClusters(cacheInputParameters.nodeCount)
+                    .automaticFailoverEnabled(replicated)
+                    .multiAzEnabled(replicated)
+                    .cacheSubnetGroupName(subnetGroup.getRef())
+                    .securityGroupIds(Collections.singletonList(cacheSecurityGroup.getAttrGroupId()))
+                    .port(PORT)
+                    .transitEncryptionEnabled(true)
+                    .atRestEncryptionEnabled(true)
+                    .build();
+            replicationGroup.addDependency(subnetGroup);
+
+            this.endpointAddress = replicationGroup.getAttrPrimaryEndPointAddress();
+            this.endpointPort = replicationGroup.getAttrPrimaryEndPointPort();
+        }
+
+        createOutputParameters();
+
+        applicationEnvironment.tag(this);
+    }
+
+    public CfnSecurityGroup getCacheSecurityGroup() {
+        return cacheSecurityGroup;
+    }
+
+    @NotNull
+    private static String createParameterName(ApplicationEnvironment applicationEnvironment, String parameterName) {
+        return applicationEnvironment.getEnvironmentName() + "-" + applicationEnvironment.getApplicationName() + "-Cache-" + parameterName;
+    }
+
+    /**
+     * Collects the output parameters of an already deployed {@link Cache} construct from the parameter store. This requires
+     * that a {@link Cache} construct has been deployed previously.
+     *
+     * @param scope       the construct in which we need the output parameters
+     * @param environment the environment for which to load the output parameters. The deployed {@link Cache}
+     *                    construct must have been deployed into this environment.
+     */
+    public static CacheOutputParameters getOutputParametersFromParameterStore(Construct scope, ApplicationEnvironment environment) {
+        return new CacheOutputParameters(
+                getParameter(scope, environment, PARAMETER_ENDPOINT_ADDRESS),
+                getParameter(scope, environment, PARAMETER_ENDPOINT_PORT),
+                getParameter(scope, environment, PARAMETER_SECURITY_GROUP_ID));
+    }
+
+    private static String getParameter(Construct scope, ApplicationEnvironment environment, String parameterName) {
+        // The construct IDs are prefixed, so the parameters of the cache and the database can be loaded in the same scope.
+        return StringParameter.fromStringParameterName(scope, "cache-" + parameterName, createParameterName(environment, parameterName))
+                .getStringValue();
+    }
+
+    /**
+     * Creates the outputs of this stack to be consumed by other stacks.
+     */
+    private void createOutputParameters() {
+
+        StringParameter endpointAddress = StringParameter.Builder.create(this, "endpointAddress")
+                .parameterName(createParameterName(this.applicationEnvironment, PARAMETER_ENDPOINT_ADDRESS))
+                .stringValue(this.endpointAddress)
+                .build();
+
+        StringParameter endpointPort = StringParameter.Builder.create(this, "endpointPort")
+                .parameterName(createParameterName(this.applicationEnvironment, PARAMETER_ENDPOINT_PORT))
+                .stringValue(this.endpointPort)
+                .build();
+
+        StringParameter securityGroupId = StringParameter.Builder.create(this, "securityGroupId")
+                .parameterName(createParameterName(this.applicationEnvironment, PARAMETER_SECURITY_GROUP_ID))
+                .stringValue(this.cacheSecurityGroup.getAttrGroupId())
+                .build();
+    }
+
+    public enum CacheEngine {
+        VALKEY,
+        REDIS
+    }
+
+    public enum CacheMode {
+        /**
+         * A replication group of nodes with a fixed node type.
+         */
+        REPLICATION_GROUP,
+        /**
+         * A serverless cache whose memory and compute scale with the load, billed per use.
+         */
+        SERVERLESS
+    }
+
+    public static class CacheInputParameters {
+        private CacheEngine engine = CacheEngine.VALKEY;
+        private String engineVersion = "7.2";
+        private CacheMode mode = CacheMode.REPLICATION_GROUP;
+        private String nodeType = "cache.t4g.micro";
+        private int nodeCount = 2;
+        private Optional<Integer> maxDataStorageInGb = Optional.empty();
+        private Optional<Integer> maxEcpuPerSecond = Optional.empty();
+
+        /**
+         * The cache engine.
+         * <p>
+         * Default: VALKEY.
+         */
+        public CacheInputParameters withEngine(CacheEngine engine) {
+            Objects.requireNonNull(engine);
+            this.engine = engine;
+            return this;
+        }
+
+        /**
+         * The version of the cache engine. A serverless cache only takes the major version and always runs its latest minor version.
+         * <p>
+         * Default: "7.2".
+         */
+        public CacheInputParameters withEngineVersion(String engineVersion) {
+            Objects.requireNonNull(engineVersion);
+            this.engineVersion = engineVersion;
+            return this;
+        }
+
+        /**
+         * Whether the cache is a replication group or serverless.
+         * <p>
+         * Default: REPLICATION_GROUP.
+         */
+        public CacheInputParameters withMode(CacheMode mode) {
+            Objects.requireNonNull(mode);
+            this.mode = mode;
+            return this;
+        }
+
+        /**
+         * The node type of a replication group.
+         * <p>
+         * Default: "cache.t4g.micro".
+         */
+        public CacheInputParameters withNodeType(String nodeType) {
+            Objects.requireNonNull(nodeType);
+            this.nodeType = nodeType;
+            return this;
+        }
+
+        /**
+         * The number of nodes of a replication group: one primary and up to five replicas. With more than one node,
+         * the replication group fails over automatically to a replica in another AZ.
+         * <p>
+         * Default: 2.
+         */
+        public CacheInputParameters withNodeCount(int nodeCount) {
+            if (nodeCount < 1 || nodeCount > 6) {
+                throw new IllegalArgumentException("nodeCount must be between 1 and 6 but was " + nodeCount);
+            }
+            this.nodeCount = nodeCount;
+            return this;
+        }
+
+        /**
+         * The maximum amount of data a serverless cache may store.
+         * <p>
+         * Default: no limit.
+         */
+        public CacheInputParameters withMaxDataStorageInGb(int maxDataStorageInGb) {
+            if (maxDataStorageInGb < 1 || maxDataStorageInGb > 5000) {
+                throw new IllegalArgumentException("maxDataStorageInGb must be between 1 and 5000 but was " + maxDataStorageInGb);
+            }
+            this.maxDataStorageInGb = Optional.of(maxDataStorageInGb);
+            return this;
+        }
+
+        /**
+         * The maximum number of ElastiCache processing units a serverless cache may consume per second.
+         * <p>
+         * Default: no limit.
+         */
+        public CacheInputParameters withMaxEcpuPerSecond(int maxEcpuPerSecond) {
+            if (maxEcpuPerSecond < 1000 || maxEcpuPerSecond > 15000000) {
+                throw new IllegalArgumentException("maxEcpuPerSecond must be between 1000 and 15000000 but was " + maxEcpuPerSecond);
+            }
+            this.maxEcpuPerSecond = Optional.of(maxEcpuPerSecond);
+            return this;
+        }
+    }
+
+    public static class CacheOutputParameters {
+        private final String endpointAddress;
+        private final String endpointPort;
+        private final String cacheSecurityGroupId;
+
+        public CacheOutputParameters(
+                String endpointAddress,
+                String endpointPort,
+                String cacheSecurityGroupId) {
+            this.endpointAddress = endpointAddress;
+            this.endpointPort = endpointPort;
+            this.cacheSecurityGroupId = cacheSecurityGroupId;
+        }
+
+        /**
+         * The URL of the cache.
+         */
+        public String getEndpointAddress() {
+            return endpointAddress;
+        }
+
+        /**
+         * The port of the cache.
+         */
+        public String getEndpointPort() {
+            return endpointPort;
+        }
+
+        /**
+         * The cache's security group.
+         */
+        public String getCacheSecurityGroupId() {
+            return cacheSecurityGroupId;
+        }
+    }
+}
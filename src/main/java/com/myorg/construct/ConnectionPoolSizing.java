@@ -0,0 +1,98 @@
+package com.myorg.construct;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * @author : Nguyen Van Quoc Tuan
+ * @date: 10/19/2026, Monday
+ * @description:
+ *
+ * Sizes the Hikari connection pool of each task of a {@link Service} so that all tasks together stay within the
+ * connection budget of the {@link Database}. The worst case is the maximum number of tasks that run at the same
+ * time during a deployment, each holding a full pool. If not even the minimum pool size fits into the budget,
+ * the synth fails, because the tasks would otherwise run into connection errors during the next scale-out.
+ **/
+public class ConnectionPoolSizing {
+    private final Database.DatabaseInputParameters databaseInputParameters;
+    private final Service.ServiceInputParameters serviceInputParameters;
+    private int targetPoolSize = 10;
+    private int minimumPoolSize = 2;
+    private int reservedConnections = 10;
+
+    /**
+     * @param databaseInputParameters - the parameters of the database the service connects to.
+     * @param serviceInputParameters  - the parameters of the service, with its final instance count and schema migration.
+     */
+    public ConnectionPoolSizing(
+            Database.DatabaseInputParameters databaseInputParameters,
+            Service.ServiceInputParameters serviceInputParameters) {
+        this.databaseInputParameters = databaseInputParameters;
+        this.serviceInputParameters = serviceInputParameters;
+    }
+
+    /**
+     * The pool size of each task if the connection budget allows it, otherwise the pool is made smaller.
+     * <p>
+     * Default: 10 (the default of Hikari).
+     */
+    public ConnectionPoolSizing withTargetPoolSize(int targetPoolSize) {
+        if (targetPoolSize < 1) {
+            throw new IllegalArgumentException("targetPoolSize must be at least 1 but was " + targetPoolSize);
+        }
+        this.targetPoolSize = targetPoolSize;
+        return this;
+    }
+
+    /**
+     * The smallest pool size a task can work with. The synth fails if this doesn't fit into the connection budget.
+     * <p>
+     * Default: 2.
+     */
+    public ConnectionPoolSizing withMinimumPoolSize(int minimumPoolSize) {
+        if (minimumPoolSize < 1) {
+            throw new IllegalArgumentException("minimumPoolSize must be at least 1 but was " + minimumPoolSize);
+        }
+        this.minimumPoolSize = minimumPoolSize;
+        return this;
+    }
+
+    /**
+     * The number of connections kept free for administration, monitoring and other clients of the database.
+     * <p>
+     * Default: 10.
+     */
+    public ConnectionPoolSizing withReservedConnections(int reservedConnections) {
+        if (reservedConnections < 0) {
+            throw new IllegalArgumentException("reservedConnections must not be negative but was " + reservedConnections);
+        }
+        this.reservedConnections = reservedConnections;
+        return this;
+    }
+
+    /**
+     * The Spring Boot environment variables that configure the Hikari pool of each task.
+     */
+    public Map<String, String> environmentVariables() {
+        int connectionBudget = Database.connectionBudget(databaseInputParameters) - reservedConnections;
+        int maximumTaskCount = serviceInputParameters.getMaximumTaskCount();
+        int poolSize = Math.min(targetPoolSize, connectionBudget / maximumTaskCount);
+        if (poolSize < minimumPoolSize) {
+            throw new IllegalArgumentException(String.format(
+                    "%d tasks with a pool of at least %d connections need %d connections, but the database only has "
+                            + "%d connections left after reserving %d; use a larger instance class or fewer tasks",
+                    maximumTaskCount, minimumPoolSize, maximumTaskCount * minimumPoolSize,
+                    Math.max(connectionBudget, 0), reservedConnections));
+        }
+
+        // Fail fast on an exhausted pool, well before the load balancer gives up on the health check.
+        int connectionTimeoutMillis = Math.max(250, Math.min(30000, serviceInputParameters.getHealthCheckTimeoutSeconds() * 1000 / 2));
+
+        Map<String, String> vars = new HashMap<>();
+        vars.put("SPRING_DATASOURCE_HIKARI_MAXIMUM_POOL_SIZE", String.valueOf(poolSize));
+        // A fixed-size pool doesn't have to open connections while a scale-out brings load to the task.
+        vars.put("SPRING_DATASOURCE_HIKARI_MINIMUM_IDLE", String.valueOf(poolSize));
+        vars.put("SPRING_DATASOURCE_HIKARI_CONNECTION_TIMEOUT", String.valueOf(connectionTimeoutMillis));
+        return vars;
+    }
+}
@@ -1,19 +1,59 @@
 package com.myorg.construct;
 
 import org.jetbrains.annotations.NotNull;
+import software.amazon.awscdk.Duration;
 import software.amazon.awscdk.Environment;
+import software.amazon.awscdk.Fn;
+import software.amazon.awscdk.services.cloudwatch.Alarm;
+import software.amazon.awscdk.services.cloudwatch.ComparisonOperator;
+import software.amazon.awscdk.services.cloudwatch.Dashboard;
+import software.amazon.awscdk.services.cloudwatch.GraphWidget;
+import software.amazon.awscdk.services.cloudwatch.IMetric;
+import software.amazon.awscdk.services.cloudwatch.IWidget;
+import software.amazon.awscdk.services.cloudwatch.LogQueryVisualizationType;
+import software.amazon.awscdk.services.cloudwatch.LogQueryWidget;
+import software.amazon.awscdk.services.cloudwatch.Metric;
+import software.amazon.awscdk.services.cloudwatch.TextWidget;
+import software.amazon.awscdk.services.cloudwatch.TreatMissingData;
 import software.amazon.awscdk.services.ec2.CfnSecurityGroup;
 import software.amazon.awscdk.services.ec2.CfnSecurityGroupIngress;
+import software.amazon.awscdk.services.iam.ManagedPolicy;
+import software.amazon.awscdk.services.iam.Role;
+import software.amazon.awscdk.services.iam.ServicePrincipal;
+import software.amazon.awscdk.services.logs.FilterPattern;
+import software.amazon.awscdk.services.logs.ILogGroup;
+import software.amazon.awscdk.services.logs.LogGroup;
+import software.amazon.awscdk.services.logs.LogRetention;
+import software.amazon.awscdk.services.logs.MetricFilter;
+import software.amazon.awscdk.services.logs.RetentionDays;
+import software.amazon.awscdk.services.rds.CfnDBCluster;
+import software.amazon.awscdk.services.rds.CfnDBClusterParameterGroup;
 import software.amazon.awscdk.services.rds.CfnDBInstance;
+import software.amazon.awscdk.services.rds.CfnDBParameterGroup;
+import software.amazon.awscdk.services.rds.CfnDBProxy;
+import software.amazon.awscdk.services.rds.CfnDBProxyTargetGroup;
 import software.amazon.awscdk.services.rds.CfnDBSubnetGroup;
+import software.amazon.awscdk.services.rds.CfnGlobalCluster;
+import software.amazon.awscdk.services.route53.CfnHostedZone;
+import software.amazon.awscdk.services.route53.CfnRecordSet;
 import software.amazon.awscdk.services.secretsmanager.CfnSecretTargetAttachment;
 import software.amazon.awscdk.services.secretsmanager.ISecret;
+import software.amazon.awscdk.services.secretsmanager.ReplicaRegion;
 import software.amazon.awscdk.services.secretsmanager.Secret;
 import software.amazon.awscdk.services.secretsmanager.SecretStringGenerator;
 import software.amazon.awscdk.services.ssm.StringParameter;
 import software.constructs.Construct;
+import software.constructs.IConstruct;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import static com.myorg.constant.AWSParameter.*;
 
@@ -22,26 +62,48 @@ import static com.myorg.constant.AWSParameter.*;
  * @date: 5/14/2024, Tuesday
  * @description:
  *
+ * Depending on the engine (see {@link DatabaseInputParameters#withEngine(DatabaseEngine)}), the database is either a
+ * MySQL instance or an Aurora MySQL cluster with Serverless v2 instances. The MySQL instance is placed in the first AZ,
+ * unless a Multi-AZ mode is chosen (see {@link DatabaseInputParameters#withMultiAzMode(MultiAzMode)}).
+ * An Aurora cluster can be the primary or a secondary cluster of a global database: the secondary clusters in other
+ * regions serve the reads locally and forward the writes to the primary cluster.
+ *
  * The following parameters need to exist in the SSM parameter store for this stack to successfully deploy:
  *****<environmentName>-Network-vpcId: ID of the VPC to deploy the database into.
- *****<environmentName>-Network-isolatedSubnetOne: ID of the first isolated subnet to deploy the database into.
- *****<environmentName>-Network-isolatedSubnetTwo: ID of the first isolated subnet to deploy the database into.
- *****<environmentName>-Network-availabilityZoneOne: ID of the first AZ to deploy the database into.
- *****<environmentName>-Network-availabilityZoneTwo: ID of the second AZ to deploy the database into.
+ *****<environmentName>-Network-isolatedSubnetIds: IDs of the isolated subnets to deploy the database into.
+ *****<environmentName>-Network-availabilityZones: names of the AZs of the VPC. The database is deployed into the first one.
  * The stack exposes the following output parameters in the SSM parameter store to be used in other stacks:
  ***** <environmentName>-<applicationName>-Database-endpointAddress: URL of the database
  ***** <environmentName>-<applicationName>-Database-endpointPort: port to access the database
  ***** <environmentName>-<applicationName>-Database-databaseName: name of the database
  ***** <environmentName>-<applicationName>-Database-securityGroupId: ID of the database's security group
  ***** <environmentName>-<applicationName>-Database-secretArn: ARN of the secret that stores the fields "username" and "password"
- ***** <environmentName>-<applicationName>-Database-instanceId: ID of the database
+ (only a partial ARN for cross-region read replicas and secondary clusters, whose secret is replicated from the source region)
+ ***** <environmentName>-<applicationName>-Database-instanceId: ID of the database (the writer instance of an Aurora cluster, the cluster of a Multi-AZ DB cluster)
+ ***** <environmentName>-<applicationName>-Database-proxyEndpointAddress: URL of the RDS proxy, or of the database if no proxy is enabled
+ ***** <environmentName>-<applicationName>-Database-readerEndpointAddress: URL that resolves to the read replicas, or URL of the database if there are no read replicas
  ***** The static getter methods provide a convenient access to retrieve these parameters from the parameter store for use in other stacks.
  **/
 public class Database extends Construct {
 
+    private static final long GIB = 1024L * 1024 * 1024;
+
+    private static final Pattern MAX_CONNECTIONS_FORMULA = Pattern.compile("^\\{DBInstanceClassMemory/([0-9]+)}$");
+    // DBInstanceClassMemory is the memory of the instance class minus the memory of the operating system and the RDS
+    // processes, about 75% of it on the smallest classes (db.t3.micro reports 66 instead of 85 max_connections).
+    private static final double DB_INSTANCE_CLASS_MEMORY_SHARE = 0.75;
+
     private CfnSecurityGroup databaseSecurityGroup;
     private CfnDBInstance dbInstance;
+    private CfnDBCluster dbCluster;
+    private CfnDBParameterGroup dbParameterGroup;
+    private CfnDBProxy dbProxy;
+    private String endpointAddress;
+    private String endpointPort;
+    private String readerEndpointAddress;
+    private final List<String> slowQueryLogGroupNames = new ArrayList<>();
     private final ISecret databaseSecret;
+    private final String dbName;
     private final ApplicationEnvironment applicationEnvironment;
 
     public Database(
@@ -74,48 +136,814 @@ public class Database extends Construct {
                 .toPort(3306)
                 .build();
 
-        // This will generate a JSON object with the keys "username" and "password".
-        databaseSecret = Secret.Builder.create(this, "databaseSecret")
-                .secretName(applicationEnvironment.prefix("DatabaseSecret"))
-                .description("Credentials to the RDS instance")
-                .generateSecretString(SecretStringGenerator.builder()
-                        .secretStringTemplate(String.format("{\"username\": \"%s\"}", username))
-                        .generateStringKey("password")
-                        .passwordLength(32)
-                        .excludeCharacters("@/\\\" ")
-                        .build())
-                .build();
+        // A Multi-AZ DB cluster needs subnets in three AZs, but the network spans two AZs by default. Selecting the
+        // third subnet fails the deployment before the cluster is touched if the network has fewer AZs.
+        List<String> subnetIds = networkOutputParameters.getIsolatedSubnets();
+        if (databaseInputParameters.multiAzMode == MultiAzMode.READABLE_STANDBYS_CLUSTER) {
+            List<String> isolatedSubnets = Network.getIsolatedSubnetsFromTemplateParameter(this, applicationEnvironment.getEnvironmentName());
+            subnetIds = List.of(Fn.select(0, isolatedSubnets), Fn.select(1, isolatedSubnets), Fn.select(2, isolatedSubnets));
+        }
 
         CfnDBSubnetGroup subnetGroup = CfnDBSubnetGroup.Builder.create(this, "dbSubnetGroup")
                 .dbSubnetGroupDescription("Subnet group for the RDS instance")
                 .dbSubnetGroupName(applicationEnvironment.prefix("dbSubnetGroup"))
-                .subnetIds(networkOutputParameters.getIsolatedSubnets())
+                .subnetIds(subnetIds)
                 .build();
 
-        dbInstance = CfnDBInstance.Builder.create(this, "rdsInstance")
-                .dbInstanceIdentifier(applicationEnvironment.prefix("database"))
-                .dbName(sanitizeDbParameterName(applicationEnvironment.prefix("database")))
-                .allocatedStorage(String.valueOf(databaseInputParameters.storageInGb))
-                .availabilityZone(networkOutputParameters.getAvailabilityZones().get(0))
-                .dbInstanceClass(databaseInputParameters.instanceClass)
-                .dbSubnetGroupName(subnetGroup.getDbSubnetGroupName())
+        this.dbName = sanitizeDbParameterName(applicationEnvironment.prefix("database"));
+
+        if (databaseInputParameters.proxyEnabled && databaseInputParameters.replicaSourceRegion.isPresent()) {
+            throw new IllegalArgumentException("an RDS proxy cannot target a cross-region read replica");
+        }
+        if (databaseInputParameters.engine == DatabaseEngine.AURORA_MYSQL_SERVERLESS_V2 && databaseInputParameters.replicaSourceRegion.isPresent()) {
+            throw new IllegalArgumentException("cross-region read replicas are only supported for the MYSQL engine");
+        }
+        boolean globalCluster = databaseInputParameters.globalClusterEnabled || databaseInputParameters.globalClusterSourceRegion.isPresent();
+        if (globalCluster && databaseInputParameters.engine != DatabaseEngine.AURORA_MYSQL_SERVERLESS_V2) {
+            throw new IllegalArgumentException("global databases are only supported for the AURORA_MYSQL_SERVERLESS_V2 engine");
+        }
+        if (databaseInputParameters.proxyEnabled && databaseInputParameters.globalClusterSourceRegion.isPresent()) {
+            throw new IllegalArgumentException("an RDS proxy cannot target a secondary cluster of a global database");
+        }
+
+        if (databaseInputParameters.engine == DatabaseEngine.AURORA_MYSQL_SERVERLESS_V2 && databaseInputParameters.multiAzMode != MultiAzMode.NONE) {
+            throw new IllegalArgumentException("multiAzMode is only supported for the MYSQL engine, an Aurora cluster spreads its instances over the AZs itself");
+        }
+        boolean multiAzCluster = databaseInputParameters.multiAzMode == MultiAzMode.READABLE_STANDBYS_CLUSTER;
+        if (multiAzCluster && (databaseInputParameters.replicaSourceRegion.isPresent() || databaseInputParameters.readReplicaCount > 0)) {
+            throw new IllegalArgumentException("a Multi-AZ DB cluster cannot be combined with read replicas, its readable standbys serve the reads");
+        }
+
+        if (databaseInputParameters.performanceInsightsRetentionInDays.isPresent()
+                && "0".equals(databaseInputParameters.parameterOverrides.get("performance_schema"))) {
+            throw new IllegalArgumentException("Performance Insights needs the performance schema, remove performance_schema=0 from the parameter overrides");
+        }
+
+        if (databaseInputParameters.engine == DatabaseEngine.MYSQL) {
+            databaseInputParameters.validateStorage();
+            if (!multiAzCluster) {
+                dbParameterGroup = createParameterGroup(databaseInputParameters);
+            }
+        }
+
+        // Multi-AZ instances are placed by RDS, the standby in a different AZ than the primary.
+        String availabilityZone = databaseInputParameters.multiAzMode == MultiAzMode.NONE
+                ? Fn.select(0, networkOutputParameters.getAvailabilityZones())
+                : null;
+        boolean multiAz = databaseInputParameters.multiAzMode == MultiAzMode.STANDBY_INSTANCE;
+
+        if (databaseInputParameters.replicaSourceRegion.isPresent()) {
+            // A cross-region read replica uses the credentials of its source instance. The secret is replicated
+            // into this region by the source Database construct, so it is referenced by name.
+            databaseSecret = Secret.fromSecretNameV2(this, "databaseSecret", applicationEnvironment.prefix("DatabaseSecret"));
+
+            String sourceRegion = databaseInputParameters.replicaSourceRegion.get();
+            dbInstance = CfnDBInstance.Builder.create(this, "rdsInstance")
+                    .dbInstanceIdentifier(applicationEnvironment.prefix("database"))
+                    .sourceDbInstanceIdentifier(String.format("arn:aws:rds:%s:%s:db:%s",
+                            sourceRegion, awsEnvironment.getAccount(), applicationEnvironment.prefix("database")))
+                    .sourceRegion(sourceRegion)
+                    .availabilityZone(availabilityZone)
+                    .multiAz(multiAz)
+                    .dbInstanceClass(databaseInputParameters.instanceClass)
+                    .dbSubnetGroupName(subnetGroup.getDbSubnetGroupName())
+                    .dbParameterGroupName(dbParameterGroup.getRef())
+                    .publiclyAccessible(false)
+                    .vpcSecurityGroups(Collections.singletonList(databaseSecurityGroup.getAttrGroupId()))
+                    .build();
+        } else if (databaseInputParameters.globalClusterSourceRegion.isPresent()) {
+            // A secondary cluster uses the credentials of the primary cluster, whose secret is replicated into this region.
+            databaseSecret = Secret.fromSecretNameV2(this, "databaseSecret", applicationEnvironment.prefix("DatabaseSecret"));
+            createAuroraCluster(username, subnetGroup, databaseInputParameters);
+        } else {
+            // This will generate a JSON object with the keys "username" and "password".
+            databaseSecret = Secret.Builder.create(this, "databaseSecret")
+                    .secretName(applicationEnvironment.prefix("DatabaseSecret"))
+                    .description("Credentials to the RDS instance")
+                    .generateSecretString(SecretStringGenerator.builder()
+                            .secretStringTemplate(String.format("{\"username\": \"%s\"}", username))
+                            .generateStringKey("password")
+                            .passwordLength(32)
+                            .excludeCharacters("@/\\\" ")
+                            .build())
+                    .replicaRegions(replicaRegions(databaseInputParameters.secretReplicaRegions))
+                    .build();
+
+            if (databaseInputParameters.engine == DatabaseEngine.AURORA_MYSQL_SERVERLESS_V2) {
+                createAuroraCluster(username, subnetGroup, databaseInputParameters);
+            } else if (multiAzCluster) {
+                createMultiAzCluster(username, subnetGroup, databaseInputParameters);
+            } else {
+                dbInstance = CfnDBInstance.Builder.create(this, "rdsInstance")
+                        .dbInstanceIdentifier(applicationEnvironment.prefix("database"))
+                        .dbName(dbName)
+                        .allocatedStorage(String.valueOf(databaseInputParameters.storageInGb))
+                        .availabilityZone(availabilityZone)
+                        .multiAz(multiAz)
+                        .dbInstanceClass(databaseInputParameters.instanceClass)
+                        .dbSubnetGroupName(subnetGroup.getDbSubnetGroupName())
+                        .dbParameterGroupName(dbParameterGroup.getRef())
+                        .engine("mysql")
+                        .engineVersion(databaseInputParameters.databaseInstanceVersion)
+                        .masterUsername(username)
+                        .masterUserPassword(databaseSecret.secretValueFromJson("password").unsafeUnwrap())
+                        .publiclyAccessible(false)
+                        .vpcSecurityGroups(Collections.singletonList(databaseSecurityGroup.getAttrGroupId()))
+                        .build();
+
+                CfnSecretTargetAttachment.Builder.create(this, "secretTargetAttachment")
+                        .secretId(databaseSecret.getSecretArn())
+                        .targetId(dbInstance.getRef())
+                        .targetType("AWS::RDS::DBInstance")
+                        .build();
+            }
+
+            if (databaseInputParameters.proxyEnabled) {
+                createProxy(networkOutputParameters, databaseInputParameters);
+            }
+        }
+
+        if (dbCluster == null) {
+            this.endpointAddress = dbInstance.getAttrEndpointAddress();
+            this.endpointPort = dbInstance.getAttrEndpointPort();
+        }
+
+        if (databaseInputParameters.engine == DatabaseEngine.MYSQL && databaseInputParameters.readReplicaCount > 0) {
+            createReadReplicas(awsEnvironment, networkOutputParameters, subnetGroup, databaseInputParameters);
+        }
+
+        List<CfnDBInstance> instances = new ArrayList<>();
+        for (IConstruct child : getNode().findAll()) {
+            if (child instanceof CfnDBInstance instance) {
+                instances.add(instance);
+            }
+        }
+        if (databaseInputParameters.engine == DatabaseEngine.MYSQL) {
+            configureStorage(instances, databaseInputParameters);
+        }
+        configureMonitoring(instances, databaseInputParameters);
+        configureLogExports(instances, databaseInputParameters);
+        createDashboard(awsEnvironment, instances, databaseInputParameters);
+
+        createOutputParameters();
+
+        applicationEnvironment.tag(this);
+    }
+
+    /**
+     * Sets the storage type, the provisioned IOPS and throughput and the storage autoscaling limit on the MySQL
+     * instance and its read replicas. The replicas take over the allocated storage of their source.
+     */
+    private void configureStorage(List<CfnDBInstance> instances, DatabaseInputParameters databaseInputParameters) {
+        for (CfnDBInstance instance : instances) {
+            instance.setStorageType(databaseInputParameters.storageType.name().toLowerCase());
+            databaseInputParameters.iops.ifPresent(instance::setIops);
+            databaseInputParameters.storageThroughputInMibps.ifPresent(instance::setStorageThroughput);
+            databaseInputParameters.maxAllocatedStorageInGb.ifPresent(instance::setMaxAllocatedStorage);
+        }
+    }
+
+    /**
+     * Enables Performance Insights (top SQL and wait events) and Enhanced Monitoring (OS metrics) on all instances
+     * of the database, as configured in the input parameters.
+     */
+    private void configureMonitoring(List<CfnDBInstance> instances, DatabaseInputParameters databaseInputParameters) {
+        Role monitoringRole = null;
+        if (databaseInputParameters.enhancedMonitoringIntervalSeconds > 0) {
+            monitoringRole = Role.Builder.create(this, "monitoringRole")
+                    .assumedBy(ServicePrincipal.Builder.create("monitoring.rds.amazonaws.com").build())
+                    .managedPolicies(Collections.singletonList(
+                            ManagedPolicy.fromAwsManagedPolicyName("service-role/AmazonRDSEnhancedMonitoringRole")))
+                    .build();
+        }
+
+        if (dbCluster != null && databaseInputParameters.engine == DatabaseEngine.MYSQL) {
+            // The instances of a Multi-AZ DB cluster are managed by RDS and configured through the cluster.
+            if (databaseInputParameters.performanceInsightsRetentionInDays.isPresent()) {
+                dbCluster.setPerformanceInsightsEnabled(true);
+                dbCluster.setPerformanceInsightsRetentionPeriod(databaseInputParameters.performanceInsightsRetentionInDays.get());
+                databaseInputParameters.performanceInsightsKmsKeyArn.ifPresent(dbCluster::setPerformanceInsightsKmsKeyId);
+            }
+            if (monitoringRole != null) {
+                dbCluster.setMonitoringInterval(databaseInputParameters.enhancedMonitoringIntervalSeconds);
+                dbCluster.setMonitoringRoleArn(monitoringRole.getRoleArn());
+            }
+        }
+
+        for (CfnDBInstance instance : instances) {
+            if (databaseInputParameters.performanceInsightsRetentionInDays.isPresent()) {
+                instance.setEnablePerformanceInsights(true);
+                instance.setPerformanceInsightsRetentionPeriod(databaseInputParameters.performanceInsightsRetentionInDays.get());
+                databaseInputParameters.performanceInsightsKmsKeyArn.ifPresent(instance::setPerformanceInsightsKmsKeyId);
+            }
+            if (monitoringRole != null) {
+                instance.setMonitoringInterval(databaseInputParameters.enhancedMonitoringIntervalSeconds);
+                instance.setMonitoringRoleArn(monitoringRole.getRoleArn());
+            }
+        }
+    }
+
+    /**
+     * Publishes the configured MySQL logs to CloudWatch Logs, keeps them for the configured retention and counts the
+     * entries of the slow query log in the metric SlowQueries in the namespace
+     * <environmentName>-<applicationName>-Database. An alarm goes off if too many slow queries are logged,
+     * so a slow query shows up when it is deployed, not when it has saturated the CPU of the database.
+     */
+    private void configureLogExports(List<CfnDBInstance> instances, DatabaseInputParameters databaseInputParameters) {
+        if (databaseInputParameters.logExports.isEmpty()) {
+            return;
+        }
+        List<String> exports = new ArrayList<>();
+        for (DatabaseLogType logType : databaseInputParameters.logExports) {
+            exports.add(logType.exportName());
+        }
+
+        // RDS writes the logs into /aws/rds/<instance|cluster>/<identifier>/<log type>.
+        List<String> logGroupPrefixes = new ArrayList<>();
+        if (dbCluster != null) {
+            // The instances of a cluster publish their logs through the cluster.
+            dbCluster.setEnableCloudwatchLogsExports(exports);
+            logGroupPrefixes.add("/aws/rds/cluster/" + dbCluster.getDbClusterIdentifier());
+        } else {
+            for (CfnDBInstance instance : instances) {
+                instance.setEnableCloudwatchLogsExports(exports);
+                logGroupPrefixes.add("/aws/rds/instance/" + instance.getDbInstanceIdentifier());
+            }
+        }
+
+        int i = 1;
+        for (String logGroupPrefix : logGroupPrefixes) {
+            for (DatabaseLogType logType : databaseInputParameters.logExports) {
+                String logGroupName = logGroupPrefix + "/" + logType.exportName();
+                // RDS creates the log group on the first log event, so the retention is set by a custom resource
+                // that creates the log group if it doesn't exist yet.
+                LogRetention logRetention = LogRetention.Builder.create(this, "logRetention" + i + logType.name())
+                        .logGroupName(logGroupName)
+                        .retention(databaseInputParameters.logRetention)
+                        .build();
+
+                if (logType == DatabaseLogType.SLOWQUERY) {
+                    createSlowQueryMetricFilter(logGroupName, logRetention, i);
+                    slowQueryLogGroupNames.add(logGroupName);
+                }
+            }
+            i++;
+        }
+
+        if (databaseInputParameters.logExports.contains(DatabaseLogType.SLOWQUERY)) {
+            Alarm.Builder.create(this, "slowQueryAlarm")
+                    .alarmName(applicationEnvironment.prefix("slowQueries"))
+                    .alarmDescription("More slow queries than expected, look at the slow query log of the database")
+                    .metric(slowQueryMetric("SlowQueries", "Sum", Duration.minutes(5)))
+                    .threshold(databaseInputParameters.slowQueryAlarmThreshold)
+                    .evaluationPeriods(1)
+                    .comparisonOperator(ComparisonOperator.GREATER_THAN_OR_EQUAL_TO_THRESHOLD)
+                    .treatMissingData(TreatMissingData.NOT_BREACHING)
+                    .build();
+        }
+    }
+
+    /**
+     * Every slow query log entry contains a line like
+     * "# Query_time: 2.000211  Lock_time: 0.000102 Rows_sent: 1  Rows_examined: 1". The position of the query time
+     * in the entry depends on the MySQL version and the user and host, so it is parsed by the dashboard query
+     * rather than extracted by a metric filter.
+     */
+    private void createSlowQueryMetricFilter(String logGroupName, LogRetention logRetention, int index) {
+        ILogGroup slowQueryLogGroup = LogGroup.fromLogGroupName(this, "slowQueryLogGroup" + index, logGroupName);
+
+        MetricFilter slowQueryCount = MetricFilter.Builder.create(this, "slowQueryCountFilter" + index)
+                .logGroup(slowQueryLogGroup)
+                .filterPattern(FilterPattern.allTerms("Query_time:"))
+                .metricNamespace(applicationEnvironment.prefix("Database"))
+                .metricName("SlowQueries")
+                .metricValue("1")
+                .build();
+        slowQueryCount.getNode().addDependency(logRetention);
+    }
+
+    private Metric slowQueryMetric(String metricName, String statistic, Duration period) {
+        return Metric.Builder.create()
+                .namespace(applicationEnvironment.prefix("Database"))
+                .metricName(metricName)
+                .statistic(statistic)
+                .period(period)
+                .label(metricName + " " + statistic)
+                .build();
+    }
+
+    private void createDashboard(
+            Environment awsEnvironment,
+            List<CfnDBInstance> instances,
+            DatabaseInputParameters databaseInputParameters) {
+        List<String> instanceIdentifiers = new ArrayList<>();
+        for (CfnDBInstance instance : instances) {
+            instanceIdentifiers.add(instance.getDbInstanceIdentifier());
+        }
+        List<String> osMetricsInstanceIdentifiers = new ArrayList<>(instanceIdentifiers);
+        // The instances of a Multi-AZ DB cluster are named by RDS, so its metrics are shown per cluster.
+        // Enhanced Monitoring only reports per instance, RDS names them <cluster>-instance-1 to -3.
+        String dimension = "DBInstanceIdentifier";
+        if (instanceIdentifiers.isEmpty()) {
+            dimension = "DBClusterIdentifier";
+            instanceIdentifiers.add(dbCluster.getDbClusterIdentifier());
+            for (int i = 1; i <= 3; i++) {
+                osMetricsInstanceIdentifiers.add(dbCluster.getDbClusterIdentifier() + "-instance-" + i);
+            }
+        }
+
+        List<IWidget> widgets = new ArrayList<>(List.of(
+                rdsGraph("CPU utilization (%)", "CPUUtilization", "Average", dimension, instanceIdentifiers),
+                rdsGraph("Connections", "DatabaseConnections", "Maximum", dimension, instanceIdentifiers),
+                rdsGraph("Freeable memory (bytes)", "FreeableMemory", "Minimum", dimension, instanceIdentifiers),
+                rdsGraph("Read latency (seconds)", "ReadLatency", "Average", dimension, instanceIdentifiers),
+                rdsGraph("Write latency (seconds)", "WriteLatency", "Average", dimension, instanceIdentifiers)
+        ));
+
+        if (databaseInputParameters.engine == DatabaseEngine.AURORA_MYSQL_SERVERLESS_V2) {
+            widgets.add(rdsGraph("Serverless capacity (ACUs)", "ServerlessDatabaseCapacity", "Average", dimension, instanceIdentifiers));
+        }
+
+        if (databaseInputParameters.logExports.contains(DatabaseLogType.SLOWQUERY)) {
+            widgets.add(GraphWidget.Builder.create()
+                    .title("Slow queries")
+                    .width(6)
+                    .left(Collections.singletonList(slowQueryMetric("SlowQueries", "Sum", Duration.minutes(1))))
+                    .build());
+            widgets.add(LogQueryWidget.Builder.create()
+                    .title("Slow query time (seconds)")
+                    .logGroupNames(slowQueryLogGroupNames)
+                    .view(LogQueryVisualizationType.LINE)
+                    .queryString("""
+                            parse @message "Query_time: * " as queryTime
+                            | filter ispresent(queryTime)
+                            | stats max(queryTime) as maxSeconds, pct(queryTime, 90) as p90Seconds by bin(1m)""")
+                    .width(6)
+                    .height(6)
+                    .build());
+        }
+
+        if (databaseInputParameters.performanceInsightsRetentionInDays.isPresent()) {
+            // DBLoad is the number of active sessions. If it's above the number of vCPUs and mostly non-CPU load,
+            // the instance waits on I/O or locks: look at the top SQL before upsizing the instance.
+            widgets.add(rdsGraph("DB load, CPU (active sessions)", "DBLoadCPU", "Average", dimension, instanceIdentifiers));
+            widgets.add(rdsGraph("DB load, non-CPU (active sessions)", "DBLoadNonCPU", "Average", dimension, instanceIdentifiers));
+            widgets.add(TextWidget.Builder.create()
+                    .markdown(String.format("Top SQL and wait events: [Performance Insights](https://%s.console.aws.amazon.com/rds/home?region=%s#performance-insights-v20206:)",
+                            awsEnvironment.getRegion(), awsEnvironment.getRegion()))
+                    .width(6)
+                    .height(6)
+                    .build());
+        }
+
+        if (databaseInputParameters.enhancedMonitoringIntervalSeconds > 0) {
+            // Enhanced Monitoring writes the OS metrics of all instances of the account and region into the log group RDSOSMetrics.
+            widgets.add(LogQueryWidget.Builder.create()
+                    .title("OS metrics (Enhanced Monitoring)")
+                    .logGroupNames(Collections.singletonList("RDSOSMetrics"))
+                    .view(LogQueryVisualizationType.TABLE)
+                    .queryString(String.format("""
+                                    filter instanceID in ["%s"]
+                                    | stats avg(cpuUtilization.total) as cpuPercent, avg(cpuUtilization.wait) as ioWaitPercent,
+                                      avg(loadAverageMinute.one) as loadAverage, min(memory.free) / 1024 as minFreeMemoryMb
+                                      by instanceID""",
+                            String.join("\", \"", osMetricsInstanceIdentifiers)))
+                    .width(12)
+                    .height(6)
+                    .build());
+        }
+
+        Dashboard.Builder.create(this, "databaseDashboard")
+                .dashboardName(applicationEnvironment.prefix("database"))
+                .widgets(Collections.singletonList(widgets))
+                .build();
+    }
+
+    private static GraphWidget rdsGraph(String title, String metricName, String statistic, String dimension, List<String> instanceIdentifiers) {
+        List<IMetric> metrics = new ArrayList<>();
+        for (String instanceIdentifier : instanceIdentifiers) {
+            metrics.add(Metric.Builder.create()
+                    .namespace("AWS/RDS")
+                    .metricName(metricName)
+                    .dimensionsMap(Map.of(dimension, instanceIdentifier))
+                    .statistic(statistic)
+                    .period(Duration.minutes(1))
+                    .label(instanceIdentifier)
+                    .build());
+        }
+        return GraphWidget.Builder.create()
+                .title(title)
+                .width(6)
+                .left(metrics)
+                .build();
+    }
+
+    /**
+     * Creates the parameter group of the MySQL instance and its read replicas from the parameters of the chosen
+     * profile, overridden by the explicit parameter overrides. Static parameters like performance_schema are applied
+     * on creation, but only after a reboot when they change later.
+     */
+    private CfnDBParameterGroup createParameterGroup(DatabaseInputParameters databaseInputParameters) {
+        return CfnDBParameterGroup.Builder.create(this, "dbParameterGroup")
+                .dbParameterGroupName(applicationEnvironment.prefix("dbParameterGroup"))
+                .description("Parameter group of the RDS instance, profile " + databaseInputParameters.parameterProfile)
+                .family(parameterGroupFamily(databaseInputParameters))
+                .parameters(parameterGroupParameters(databaseInputParameters))
+                .build();
+    }
+
+    private static String parameterGroupFamily(DatabaseInputParameters databaseInputParameters) {
+        String version = databaseInputParameters.databaseInstanceVersion;
+        return "mysql" + version.substring(0, version.indexOf('.', version.indexOf('.') + 1));
+    }
+
+    private static Map<String, String> parameterGroupParameters(DatabaseInputParameters databaseInputParameters) {
+        Map<String, String> parameters = profileParameters(databaseInputParameters.parameterProfile);
+        if (databaseInputParameters.performanceInsightsRetentionInDays.isPresent()) {
+            // Without the performance schema, Performance Insights shows no wait events. Left unset, RDS turns it on.
+            parameters.remove("performance_schema");
+        }
+        parameters.putAll(logParameters(databaseInputParameters));
+        parameters.putAll(databaseInputParameters.parameterOverrides);
+        return parameters;
+    }
+
+    /**
+     * The parameters that make MySQL write the exported logs. The slow query log is always written, so only
+     * long_query_time changes it. The general log records every statement and is meant for short investigations.
+     */
+    private static Map<String, String> logParameters(DatabaseInputParameters databaseInputParameters) {
+        Map<String, String> parameters = new LinkedHashMap<>();
+        parameters.put("slow_query_log", "1");
+        parameters.put("log_output", "FILE");
+        parameters.put("long_query_time", databaseInputParameters.longQueryTimeSeconds
+                .map(String::valueOf)
+                .orElse(profileParameters(databaseInputParameters.parameterProfile).get("long_query_time")));
+        if (databaseInputParameters.logExports.contains(DatabaseLogType.GENERAL)) {
+            parameters.put("general_log", "1");
+        }
+        return parameters;
+    }
+
+    /**
+     * The number of connections the applications may open to the writer, derived from the max_connections of the
+     * instance class (or of the maximum capacity of Aurora Serverless v2) and, if the database has an RDS proxy,
+     * the share of max_connections the proxy may use. DBInstanceClassMemory is estimated conservatively as 75% of the
+     * memory of the instance class, so set max_connections in the parameter overrides for an exact budget.
+     */
+    public static int connectionBudget(DatabaseInputParameters databaseInputParameters) {
+        int maxConnections;
+        if (databaseInputParameters.engine == DatabaseEngine.AURORA_MYSQL_SERVERLESS_V2) {
+            // Aurora MySQL: GREATEST({log(DBInstanceClassMemory/805306368)*45},{log(DBInstanceClassMemory/8187281408)*1000}),
+            // with the memory of the maximum capacity (2 GiB per ACU) for Serverless v2.
+            double memoryInBytes = databaseInputParameters.maxCapacityInAcus * 2 * GIB;
+            maxConnections = (int) Math.max(
+                    log2(memoryInBytes / 805306368L) * 45,
+                    log2(memoryInBytes / 8187281408L) * 1000);
+        } else {
+            String maxConnectionsParameter = parameterGroupParameters(databaseInputParameters).get("max_connections");
+            Matcher formula = MAX_CONNECTIONS_FORMULA.matcher(maxConnectionsParameter);
+            if (formula.matches()) {
+                double dbInstanceClassMemory = instanceClassMemoryInGib(databaseInputParameters.instanceClass) * GIB * DB_INSTANCE_CLASS_MEMORY_SHARE;
+                maxConnections = (int) (dbInstanceClassMemory / Long.parseLong(formula.group(1)));
+            } else {
+                try {
+                    maxConnections = Integer.parseInt(maxConnectionsParameter);
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("the max_connections " + maxConnectionsParameter
+                            + " is neither a number nor {DBInstanceClassMemory/<bytes per connection>}, set max_connections"
+                            + " in the parameter overrides to a number to derive the connection budget");
+                }
+            }
+        }
+        if (databaseInputParameters.proxyEnabled) {
+            return maxConnections * databaseInputParameters.proxyMaxConnectionsPercent / 100;
+        }
+        return maxConnections;
+    }
+
+    private static double log2(double value) {
+        return Math.log(value) / Math.log(2);
+    }
+
+    /**
+     * The memory of the burstable (db.t*), general purpose (db.m*) and memory optimized (db.r*) instance classes.
+     */
+    private static long instanceClassMemoryInGib(String instanceClass) {
+        String[] parts = instanceClass.split("\\.");
+        if (parts.length == 3) {
+            char family = parts[1].charAt(0);
+            String size = parts[2];
+            if (family == 't') {
+                Long memoryInGib = switch (size) {
+                    case "micro" -> 1L;
+                    case "small" -> 2L;
+                    case "medium" -> 4L;
+                    case "large" -> 8L;
+                    case "xlarge" -> 16L;
+                    case "2xlarge" -> 32L;
+                    default -> null;
+                };
+                if (memoryInGib != null) {
+                    return memoryInGib;
+                }
+            } else if (family == 'm' || family == 'r') {
+                long memoryPerXlargeInGib = family == 'm' ? 16 : 32;
+                if (size.equals("large")) {
+                    return memoryPerXlargeInGib / 2;
+                }
+                if (size.matches("^[0-9]*xlarge$")) {
+                    String multiplier = size.substring(0, size.length() - "xlarge".length());
+                    return memoryPerXlargeInGib * (multiplier.isEmpty() ? 1 : Long.parseLong(multiplier));
+                }
+            }
+        }
+        throw new IllegalArgumentException("the memory of the instance class " + instanceClass
+                + " is unknown, set max_connections in the parameter overrides to derive the connection budget");
+    }
+
+    /**
+     * The MySQL parameters of a profile. Memory-dependent parameters are formulas on the memory of the instance class,
+     * so a profile fits every instance class. Commits are always flushed to disk (innodb_flush_log_at_trx_commit=1),
+     * so no order is lost if the instance crashes.
+     */
+    private static Map<String, String> profileParameters(DatabaseParameterProfile profile) {
+        Map<String, String> parameters = new LinkedHashMap<>();
+        parameters.put("innodb_flush_log_at_trx_commit", "1");
+        parameters.put("slow_query_log", "1");
+        parameters.put("log_output", "FILE");
+
+        switch (profile) {
+            case OLTP_SMALL -> {
+                parameters.put("innodb_buffer_pool_size", "{DBInstanceClassMemory*3/4}");
+                parameters.put("max_connections", "{DBInstanceClassMemory/12582880}");
+                parameters.put("innodb_redo_log_capacity", String.valueOf(512L * 1024 * 1024));
+                parameters.put("long_query_time", "1");
+                // The performance schema takes a few hundred MB of memory, too much for small instance classes.
+                parameters.put("performance_schema", "0");
+            }
+            case OLTP_LARGE -> {
+                parameters.put("innodb_buffer_pool_size", "{DBInstanceClassMemory*4/5}");
+                parameters.put("max_connections", "{DBInstanceClassMemory/12582880}");
+                // A large redo log absorbs bursts of writes without forcing checkpoints.
+                parameters.put("innodb_redo_log_capacity", String.valueOf(4L * 1024 * 1024 * 1024));
+                parameters.put("innodb_io_capacity", "2000");
+                parameters.put("innodb_io_capacity_max", "4000");
+                parameters.put("innodb_flush_neighbors", "0");
+                parameters.put("long_query_time", "0.5");
+                parameters.put("performance_schema", "1");
+            }
+            case REPORTING -> {
+                // Leave memory for the in-memory temporary tables of large aggregations.
+                parameters.put("innodb_buffer_pool_size", "{DBInstanceClassMemory*3/5}");
+                parameters.put("max_connections", "{DBInstanceClassMemory/25165760}");
+                parameters.put("innodb_redo_log_capacity", String.valueOf(1024L * 1024 * 1024));
+                parameters.put("tmp_table_size", String.valueOf(256L * 1024 * 1024));
+                parameters.put("max_heap_table_size", String.valueOf(256L * 1024 * 1024));
+                parameters.put("long_query_time", "5");
+                parameters.put("performance_schema", "1");
+            }
+        }
+        return parameters;
+    }
+
+    /**
+     * Creates a Multi-AZ DB cluster: a writer and two readable standbys in three AZs, which RDS creates and places itself.
+     * Writes are committed once one standby has them, a failover takes well under a minute, and the standbys serve
+     * reads through the reader endpoint of the cluster. The profile parameters go into a cluster parameter group.
+     */
+    private void createMultiAzCluster(
+            String username,
+            CfnDBSubnetGroup subnetGroup,
+            DatabaseInputParameters databaseInputParameters) {
+        CfnDBClusterParameterGroup clusterParameterGroup = CfnDBClusterParameterGroup.Builder.create(this, "dbClusterParameterGroup")
+                .dbClusterParameterGroupName(applicationEnvironment.prefix("dbClusterParameterGroup"))
+                .description("Parameter group of the Multi-AZ DB cluster, profile " + databaseInputParameters.parameterProfile)
+                .family(parameterGroupFamily(databaseInputParameters))
+                .parameters(parameterGroupParameters(databaseInputParameters))
+                .build();
+
+        dbCluster = CfnDBCluster.Builder.create(this, "multiAzCluster")
+                .dbClusterIdentifier(applicationEnvironment.prefix("database"))
+                .databaseName(dbName)
                 .engine("mysql")
                 .engineVersion(databaseInputParameters.databaseInstanceVersion)
+                .dbClusterInstanceClass(databaseInputParameters.instanceClass)
+                .allocatedStorage(databaseInputParameters.storageInGb)
+                .storageType(databaseInputParameters.storageType.name().toLowerCase())
+                .iops(databaseInputParameters.iops.orElse(null))
                 .masterUsername(username)
                 .masterUserPassword(databaseSecret.secretValueFromJson("password").unsafeUnwrap())
+                .dbSubnetGroupName(subnetGroup.getDbSubnetGroupName())
+                .dbClusterParameterGroupName(clusterParameterGroup.getRef())
+                .vpcSecurityGroupIds(Collections.singletonList(databaseSecurityGroup.getAttrGroupId()))
                 .publiclyAccessible(false)
-                .vpcSecurityGroups(Collections.singletonList(databaseSecurityGroup.getAttrGroupId()))
+                .storageEncrypted(true)
                 .build();
 
         CfnSecretTargetAttachment.Builder.create(this, "secretTargetAttachment")
                 .secretId(databaseSecret.getSecretArn())
-                .targetId(dbInstance.getRef())
-                .targetType("AWS::RDS::DBInstance")
+                .targetId(dbCluster.getRef())
+                .targetType("AWS::RDS::DBCluster")
                 .build();
 
-        createOutputParameters();
+        this.endpointAddress = dbCluster.getAttrEndpointAddress();
+        this.endpointPort = dbCluster.getAttrEndpointPort();
+        this.readerEndpointAddress = dbCluster.getAttrReadEndpointAddress();
+    }
 
-        applicationEnvironment.tag(this);
+    /**
+     * Creates an Aurora MySQL cluster with a Serverless v2 writer and {@link DatabaseInputParameters#readReplicaCount}
+     * reader instances. Serverless v2 instances scale between the min and max ACUs of the cluster with the load.
+     * Readers in promotion tier 0 or 1 scale together with the writer, so they can take over at full capacity.
+     * The readers are reachable through the reader endpoint of the cluster.
+     * <p>
+     * A secondary cluster of a global database gets its data and credentials from the primary cluster. All its
+     * instances are readers, which forward the writes to the primary cluster, so the applications in its region
+     * connect to the reader endpoint for reads and writes.
+     */
+    private void createAuroraCluster(
+            String username,
+            CfnDBSubnetGroup subnetGroup,
+            DatabaseInputParameters databaseInputParameters) {
+        String auroraVersion = databaseInputParameters.auroraEngineVersion;
+        boolean secondary = databaseInputParameters.globalClusterSourceRegion.isPresent();
+        Map<String, String> clusterParameters = logParameters(databaseInputParameters);
+        if (secondary) {
+            // Forwarded writes are visible to the later reads of the same session.
+            clusterParameters.put("aurora_replica_read_consistency", "SESSION");
+        }
+        CfnDBClusterParameterGroup clusterParameterGroup = CfnDBClusterParameterGroup.Builder.create(this, "auroraClusterParameterGroup")
+                .dbClusterParameterGroupName(applicationEnvironment.prefix("auroraClusterParameterGroup"))
+                .description("Parameter group of the Aurora cluster")
+                .family("aurora-mysql" + auroraVersion.substring(0, auroraVersion.indexOf('.', auroraVersion.indexOf('.') + 1)))
+                .parameters(clusterParameters)
+                .build();
+
+        dbCluster = CfnDBCluster.Builder.create(this, "auroraCluster")
+                .dbClusterIdentifier(applicationEnvironment.prefix("database"))
+                .databaseName(secondary ? null : dbName)
+                .engine("aurora-mysql")
+                .engineVersion(databaseInputParameters.auroraEngineVersion)
+                .dbClusterParameterGroupName(clusterParameterGroup.getRef())
+                .masterUsername(secondary ? null : username)
+                .masterUserPassword(secondary ? null : databaseSecret.secretValueFromJson("password").unsafeUnwrap())
+                .dbSubnetGroupName(subnetGroup.getDbSubnetGroupName())
+                .vpcSecurityGroupIds(Collections.singletonList(databaseSecurityGroup.getAttrGroupId()))
+                .storageEncrypted(true)
+                .serverlessV2ScalingConfiguration(CfnDBCluster.ServerlessV2ScalingConfigurationProperty.builder()
+                        .minCapacity(databaseInputParameters.minCapacityInAcus)
+                        .maxCapacity(databaseInputParameters.maxCapacityInAcus)
+                        .build())
+                .build();
+
+        dbInstance = CfnDBInstance.Builder.create(this, "rdsInstance")
+                .dbInstanceIdentifier(applicationEnvironment.prefix("database"))
+                .dbClusterIdentifier(dbCluster.getRef())
+                .engine("aurora-mysql")
+                .dbInstanceClass("db.serverless")
+                .promotionTier(0)
+                .publiclyAccessible(false)
+                .build();
+
+        String readerInstanceClass = databaseInputParameters.optimizedReadsInstanceClass.orElse("db.serverless");
+        for (int i = 0; i < databaseInputParameters.readReplicaCount; i++) {
+            CfnDBInstance reader = CfnDBInstance.Builder.create(this, "auroraReader" + (i + 1))
+                    .dbInstanceIdentifier(applicationEnvironment.prefix("database-reader-" + (i + 1)))
+                    .dbClusterIdentifier(dbCluster.getRef())
+                    .engine("aurora-mysql")
+                    .dbInstanceClass(readerInstanceClass)
+                    .promotionTier(1)
+                    .publiclyAccessible(false)
+                    .build();
+            reader.addDependency(dbInstance);
+        }
+
+        if (secondary) {
+            dbCluster.setGlobalClusterIdentifier(globalClusterIdentifier());
+            dbCluster.setEnableGlobalWriteForwarding(true);
+            // The writer endpoint of a secondary cluster is inactive until the cluster is promoted.
+            this.endpointAddress = dbCluster.getAttrReadEndpointAddress();
+        } else {
+            CfnSecretTargetAttachment.Builder.create(this, "secretTargetAttachment")
+                    .secretId(databaseSecret.getSecretArn())
+                    .targetId(dbCluster.getRef())
+                    .targetType("AWS::RDS::DBCluster")
+                    .build();
+            this.endpointAddress = dbCluster.getAttrEndpointAddress();
+        }
+
+        if (databaseInputParameters.globalClusterEnabled) {
+            CfnGlobalCluster globalCluster = CfnGlobalCluster.Builder.create(this, "globalCluster")
+                    .globalClusterIdentifier(globalClusterIdentifier())
+                    .sourceDbClusterIdentifier(dbCluster.getRef())
+                    .build();
+            globalCluster.addDependency(dbInstance);
+        }
+
+        this.endpointPort = dbCluster.getAttrEndpointPort();
+        this.readerEndpointAddress = dbCluster.getAttrReadEndpointAddress();
+    }
+
+    private String globalClusterIdentifier() {
+        return applicationEnvironment.prefix("global-database");
+    }
+
+    /**
+     * Puts an RDS proxy in front of the database instance. The proxy pools and multiplexes the connections of all
+     * service tasks onto a limited number of database connections, so scaling out the service or rolling out a new
+     * version doesn't exhaust the max_connections of the instance. The proxy uses the same secret and security group
+     * as the instance, so every security group that may access the database may also access the proxy.
+     */
+    private void createProxy(
+            Network.NetworkOutputParameters networkOutputParameters,
+            DatabaseInputParameters databaseInputParameters) {
+        Role proxyRole = Role.Builder.create(this, "proxyRole")
+                .assumedBy(ServicePrincipal.Builder.create("rds.amazonaws.com").build())
+                .build();
+        databaseSecret.grantRead(proxyRole);
+
+        dbProxy = CfnDBProxy.Builder.create(this, "rdsProxy")
+                .dbProxyName(applicationEnvironment.prefix("databaseProxy"))
+                .engineFamily("MYSQL")
+                .auth(Collections.singletonList(CfnDBProxy.AuthFormatProperty.builder()
+                        .authScheme("SECRETS")
+                        .secretArn(databaseSecret.getSecretArn())
+                        .iamAuth("DISABLED")
+                        .build()))
+                .roleArn(proxyRole.getRoleArn())
+                .vpcSubnetIds(networkOutputParameters.getIsolatedSubnets())
+                .vpcSecurityGroupIds(Collections.singletonList(databaseSecurityGroup.getAttrGroupId()))
+                .requireTls(false)
+                .build();
+
+        CfnDBProxyTargetGroup proxyTargetGroup = CfnDBProxyTargetGroup.Builder.create(this, "rdsProxyTargetGroup")
+                .dbProxyName(dbProxy.getRef())
+                .targetGroupName("default")
+                .dbInstanceIdentifiers(dbCluster == null ? Collections.singletonList(dbInstance.getRef()) : null)
+                .dbClusterIdentifiers(dbCluster != null ? Collections.singletonList(dbCluster.getRef()) : null)
+                .connectionPoolConfigurationInfo(CfnDBProxyTargetGroup.ConnectionPoolConfigurationInfoFormatProperty.builder()
+                        .connectionBorrowTimeout(databaseInputParameters.proxyConnectionBorrowTimeoutSeconds)
+                        .maxConnectionsPercent(databaseInputParameters.proxyMaxConnectionsPercent)
+                        .initQuery(databaseInputParameters.proxyInitQuery.orElse(null))
+                        .build())
+                .build();
+        // The targets of an Aurora cluster are its instances, which must exist before the target group is registered.
+        if (dbInstance != null) {
+            proxyTargetGroup.addDependency(dbInstance);
+        }
+    }
+
+    /**
+     * Creates read replicas of the database instance. RDS for MySQL has no reader endpoint of its own (unlike Aurora),
+     * so the replicas are put behind weighted CNAME records with a short TTL in a private hosted zone of the VPC.
+     * The RDS proxy doesn't support read-only endpoints for RDS instances, so readers connect to the replicas directly.
+     */
+    private void createReadReplicas(
+            Environment awsEnvironment,
+            Network.NetworkOutputParameters networkOutputParameters,
+            CfnDBSubnetGroup subnetGroup,
+            DatabaseInputParameters databaseInputParameters) {
+        String zoneName = applicationEnvironment.prefix("database").toLowerCase() + ".internal";
+        CfnHostedZone privateZone = CfnHostedZone.Builder.create(this, "databaseZone")
+                .name(zoneName)
+                .vpcs(Collections.singletonList(CfnHostedZone.VPCProperty.builder()
+                        .vpcId(networkOutputParameters.getVpcId())
+                        .vpcRegion(awsEnvironment.getRegion())
+                        .build()))
+                .build();
+
+        this.readerEndpointAddress = "reader." + zoneName;
+        String replicaInstanceClass = databaseInputParameters.readReplicaInstanceClass.orElse(databaseInputParameters.instanceClass);
+
+        for (int i = 0; i < databaseInputParameters.readReplicaCount; i++) {
+            // The number of AZs of the network is only known at deploy time, so RDS places the replicas
+            // in the AZs of the subnet group unless they are given explicitly.
+            String availabilityZone = databaseInputParameters.readReplicaAvailabilityZones.isEmpty()
+                    ? null
+                    : databaseInputParameters.readReplicaAvailabilityZones.get(i % databaseInputParameters.readReplicaAvailabilityZones.size());
+
+            CfnDBInstance replica = CfnDBInstance.Builder.create(this, "rdsReadReplica" + (i + 1))
+                    .dbInstanceIdentifier(applicationEnvironment.prefix("database-replica-" + (i + 1)))
+                    .sourceDbInstanceIdentifier(dbInstance.getRef())
+                    .availabilityZone(availabilityZone)
+                    .dbInstanceClass(replicaInstanceClass)
+                    .dbSubnetGroupName(subnetGroup.getDbSubnetGroupName())
+                    .dbParameterGroupName(dbParameterGroup.getRef())
+                    .publiclyAccessible(false)
+                    .vpcSecurityGroups(Collections.singletonList(databaseSecurityGroup.getAttrGroupId()))
+                    .build();
+
+            CfnRecordSet readerRecord = CfnRecordSet.Builder.create(this, "readerRecord" + (i + 1))
+                    .hostedZoneId(privateZone.getRef())
+                    .name(this.readerEndpointAddress)
+                    .type("CNAME")
+                    .ttl("5")
+                    .setIdentifier(replica.getDbInstanceIdentifier())
+                    .weight(1)
+                    .resourceRecords(Collections.singletonList(replica.getAttrEndpointAddress()))
+                    .build();
+        }
     }
 
     @NotNull
@@ -139,7 +967,19 @@ public class Database extends Construct {
                 getDbName(scope, environment),
                 getDatabaseSecretArn(scope, environment),
                 getDatabaseSecurityGroupId(scope, environment),
-                getDatabaseIdentifier(scope, environment));
+                getDatabaseIdentifier(scope, environment),
+                getProxyEndpointAddress(scope, environment),
+                getReaderEndpointAddress(scope, environment));
+    }
+
+    private static String getReaderEndpointAddress(Construct scope, ApplicationEnvironment environment) {
+        return StringParameter.fromStringParameterName(scope, PARAMETER_READER_ENDPOINT_ADDRESS, createParameterName(environment, PARAMETER_READER_ENDPOINT_ADDRESS))
+                .getStringValue();
+    }
+
+    private static String getProxyEndpointAddress(Construct scope, ApplicationEnvironment environment) {
+        return StringParameter.fromStringParameterName(scope, PARAMETER_PROXY_ENDPOINT_ADDRESS, createParameterName(environment, PARAMETER_PROXY_ENDPOINT_ADDRESS))
+                .getStringValue();
     }
 
     private static String getDatabaseIdentifier(Construct scope, ApplicationEnvironment environment) {
@@ -181,17 +1021,17 @@ public class Database extends Construct {
 
         StringParameter endpointAddress = StringParameter.Builder.create(this, "endpointAddress")
                 .parameterName(createParameterName(this.applicationEnvironment, PARAMETER_ENDPOINT_ADDRESS))
-                .stringValue(this.dbInstance.getAttrEndpointAddress())
+                .stringValue(this.endpointAddress)
                 .build();
 
         StringParameter endpointPort = StringParameter.Builder.create(this, "endpointPort")
                 .parameterName(createParameterName(this.applicationEnvironment, PARAMETER_ENDPOINT_PORT))
-                .stringValue(this.dbInstance.getAttrEndpointPort())
+                .stringValue(this.endpointPort)
                 .build();
 
         StringParameter databaseName = StringParameter.Builder.create(this, "databaseName")
                 .parameterName(createParameterName(this.applicationEnvironment, PARAMETER_DATABASE_NAME))
-                .stringValue(this.dbInstance.getDbName())
+                .stringValue(this.dbName)
                 .build();
 
         StringParameter securityGroupId = StringParameter.Builder.create(this, "securityGroupId")
@@ -206,8 +1046,27 @@ public class Database extends Construct {
 
         StringParameter instanceId = StringParameter.Builder.create(this, "instanceId")
                 .parameterName(createParameterName(this.applicationEnvironment, PARAMETER_INSTANCE_ID))
-                .stringValue(this.dbInstance.getDbInstanceIdentifier())
+                .stringValue(this.dbInstance != null ? this.dbInstance.getDbInstanceIdentifier() : this.dbCluster.getDbClusterIdentifier())
                 .build();
+
+        // Falls back to the instance endpoint, so consumers can always connect to this parameter's value.
+        StringParameter proxyEndpointAddress = StringParameter.Builder.create(this, "proxyEndpointAddress")
+                .parameterName(createParameterName(this.applicationEnvironment, PARAMETER_PROXY_ENDPOINT_ADDRESS))
+                .stringValue(this.dbProxy != null ? this.dbProxy.getAttrEndpoint() : this.endpointAddress)
+                .build();
+
+        StringParameter readerEndpointAddress = StringParameter.Builder.create(this, "readerEndpointAddress")
+                .parameterName(createParameterName(this.applicationEnvironment, PARAMETER_READER_ENDPOINT_ADDRESS))
+                .stringValue(this.readerEndpointAddress != null ? this.readerEndpointAddress : this.endpointAddress)
+                .build();
+    }
+
+    private static List<ReplicaRegion> replicaRegions(List<String> regions) {
+        List<ReplicaRegion> replicaRegions = new ArrayList<>();
+        for (String region : regions) {
+            replicaRegions.add(ReplicaRegion.builder().region(region).build());
+        }
+        return replicaRegions;
     }
 
     private String sanitizeDbParameterName(String dbParameterName) {
@@ -218,16 +1077,332 @@ public class Database extends Construct {
                 .replaceAll("^[0-9]", "a");
     }
 
+    public enum DatabaseEngine {
+        /**
+         * A single RDS for MySQL instance with a fixed instance class.
+         */
+        MYSQL,
+        /**
+         * An Aurora MySQL cluster with Serverless v2 instances, whose capacity follows the load.
+         */
+        AURORA_MYSQL_SERVERLESS_V2
+    }
+
+    public enum DatabaseParameterProfile {
+        /**
+         * Transactional workload on small instance classes: no performance schema (unless Performance Insights is
+         * enabled), moderate redo log.
+         */
+        OLTP_SMALL,
+        /**
+         * Write-heavy transactional workload on large instance classes: larger buffer pool and redo log,
+         * higher I/O capacity, performance schema enabled.
+         */
+        OLTP_LARGE,
+        /**
+         * Long-running analytical queries: fewer connections, more memory for temporary tables.
+         */
+        REPORTING
+    }
+
+    public enum MultiAzMode {
+        /**
+         * A single instance in the first AZ of the VPC.
+         */
+        NONE,
+        /**
+         * A primary instance with a synchronous standby instance in another AZ. The standby only takes over on failover.
+         */
+        STANDBY_INSTANCE,
+        /**
+         * A Multi-AZ DB cluster with a writer and two readable standbys in three AZs. Needs an instance class
+         * like db.m6gd.large or db.r6gd.large, GP3 or IO2 storage and a network with at least three AZs (see
+         * {@link Network.NetworkInputParameters#withMaxAzs(int)}), otherwise the deployment fails.
+         */
+        READABLE_STANDBYS_CLUSTER
+    }
+
+    public enum DatabaseLogType {
+        /**
+         * Startup, shutdown and error messages of MySQL.
+         */
+        ERROR,
+        /**
+         * Queries that took longer than long_query_time.
+         */
+        SLOWQUERY,
+        /**
+         * Every statement the database receives. This log grows fast and slows down the database.
+         */
+        GENERAL;
+
+        String exportName() {
+            return name().toLowerCase();
+        }
+    }
+
+    public enum DatabaseStorageType {
+        /**
+         * General purpose SSD whose IOPS grow with the size of the volume (3 IOPS per GB).
+         */
+        GP2,
+        /**
+         * General purpose SSD with a baseline of 3000 IOPS and 125 MiBps regardless of the size. From 400 GB on,
+         * the baseline is 12000 IOPS and 500 MiBps, and more IOPS and throughput can be provisioned.
+         */
+        GP3,
+        /**
+         * Provisioned IOPS SSD for sustained, latency-sensitive I/O.
+         */
+        IO2
+    }
+
     public static class DatabaseInputParameters{
+        // Below this size, gp3 volumes of RDS for MySQL have a fixed baseline of 3000 IOPS and 125 MiBps.
+        private static final int GP3_PROVISIONING_THRESHOLD_IN_GB = 400;
+
+        // Optimized Reads needs instance classes with local NVMe storage, like db.r6gd.xlarge or db.r6id.xlarge.
+        private static final Pattern OPTIMIZED_READS_INSTANCE_CLASS = Pattern.compile("^db\\.[a-z][0-9]+[a-z]*d\\.[0-9a-z]+$");
+
+        private DatabaseEngine engine = DatabaseEngine.MYSQL;
+        private DatabaseParameterProfile parameterProfile = DatabaseParameterProfile.OLTP_SMALL;
+        private Map<String, String> parameterOverrides = Collections.emptyMap();
+        private List<DatabaseLogType> logExports = List.of(DatabaseLogType.ERROR, DatabaseLogType.SLOWQUERY);
+        private Optional<Double> longQueryTimeSeconds = Optional.empty();
+        private RetentionDays logRetention = RetentionDays.ONE_MONTH;
+        private int slowQueryAlarmThreshold = 10;
+        private String auroraEngineVersion = "8.0.mysql_aurora.3.05.2";
+        private double minCapacityInAcus = 0.5;
+        private double maxCapacityInAcus = 8;
+        private Optional<String> optimizedReadsInstanceClass = Optional.empty();
+        private Optional<Integer> performanceInsightsRetentionInDays = Optional.empty();
+        private Optional<String> performanceInsightsKmsKeyArn = Optional.empty();
+        private int enhancedMonitoringIntervalSeconds = 60;
         private int storageInGb = 20;
+        private DatabaseStorageType storageType = DatabaseStorageType.GP3;
+        private MultiAzMode multiAzMode = MultiAzMode.NONE;
+        private Optional<Integer> iops = Optional.empty();
+        private Optional<Integer> storageThroughputInMibps = Optional.empty();
+        private Optional<Integer> maxAllocatedStorageInGb = Optional.empty();
         private String instanceClass = "db.t3.micro";
         private String databaseInstanceVersion="8.0.33";
+        private Optional<String> replicaSourceRegion = Optional.empty();
+        private boolean globalClusterEnabled = false;
+        private Optional<String> globalClusterSourceRegion = Optional.empty();
+        private List<String> secretReplicaRegions = Collections.emptyList();
+        private boolean proxyEnabled = false;
+        private int proxyConnectionBorrowTimeoutSeconds = 120;
+        private int proxyMaxConnectionsPercent = 100;
+        private Optional<String> proxyInitQuery = Optional.empty();
+        private int readReplicaCount = 0;
+        private Optional<String> readReplicaInstanceClass = Optional.empty();
+        private List<String> readReplicaAvailabilityZones = Collections.emptyList();
+
+        /**
+         * The database engine. Storage and instance class only apply to the MYSQL engine, the min and max capacity
+         * only apply to the AURORA_MYSQL_SERVERLESS_V2 engine.
+         * <p>
+         * Default: MYSQL.
+         */
+        public DatabaseInputParameters withEngine(DatabaseEngine engine) {
+            Objects.requireNonNull(engine);
+            this.engine = engine;
+            return this;
+        }
+
+        /**
+         * The profile of the parameter group of the MYSQL engine. The Aurora engine keeps its default parameter groups,
+         * since Aurora manages the buffer pool and redo log itself.
+         * <p>
+         * Default: OLTP_SMALL.
+         */
+        public DatabaseInputParameters withParameterProfile(DatabaseParameterProfile parameterProfile) {
+            Objects.requireNonNull(parameterProfile);
+            this.parameterProfile = parameterProfile;
+            return this;
+        }
+
+        /**
+         * MySQL parameters that override the values of the parameter profile, for example
+         * "innodb_flush_log_at_trx_commit" -> "2". Values may be formulas like "{DBInstanceClassMemory/12582880}".
+         * <p>
+         * Default: none (empty map).
+         */
+        public DatabaseInputParameters withParameterOverrides(Map<String, String> parameterOverrides) {
+            Objects.requireNonNull(parameterOverrides);
+            this.parameterOverrides = parameterOverrides;
+            return this;
+        }
+
+        /**
+         * The Aurora MySQL engine version of the AURORA_MYSQL_SERVERLESS_V2 engine.
+         * <p>
+         * Default: "8.0.mysql_aurora.3.05.2".
+         */
+        public DatabaseInputParameters withAuroraEngineVersion(String auroraEngineVersion) {
+            Objects.requireNonNull(auroraEngineVersion);
+            this.auroraEngineVersion = auroraEngineVersion;
+            return this;
+        }
+
+        /**
+         * The minimum capacity of each Serverless v2 instance in Aurora capacity units (ACUs), in steps of 0.5.
+         * <p>
+         * Default: 0.5.
+         */
+        public DatabaseInputParameters withMinCapacityInAcus(double minCapacityInAcus) {
+            validateCapacity("minCapacityInAcus", minCapacityInAcus);
+            this.minCapacityInAcus = minCapacityInAcus;
+            return this;
+        }
+
+        /**
+         * The maximum capacity of each Serverless v2 instance in Aurora capacity units (ACUs), in steps of 0.5.
+         * <p>
+         * Default: 8.
+         */
+        public DatabaseInputParameters withMaxCapacityInAcus(double maxCapacityInAcus) {
+            validateCapacity("maxCapacityInAcus", maxCapacityInAcus);
+            this.maxCapacityInAcus = maxCapacityInAcus;
+            return this;
+        }
+
+        /**
+         * Runs the reader instances of the AURORA_MYSQL_SERVERLESS_V2 engine on a provisioned instance class with
+         * Optimized Reads (local NVMe storage for temporary tables), for example "db.r6gd.xlarge". This helps heavy
+         * reporting queries that don't fit into memory. The writer stays a Serverless v2 instance.
+         * <p>
+         * Default: none, readers are Serverless v2 instances.
+         */
+        public DatabaseInputParameters withOptimizedReadsInstanceClass(String optimizedReadsInstanceClass) {
+            Objects.requireNonNull(optimizedReadsInstanceClass);
+            if (!OPTIMIZED_READS_INSTANCE_CLASS.matcher(optimizedReadsInstanceClass).matches()) {
+                throw new IllegalArgumentException("optimizedReadsInstanceClass must be an instance class with local NVMe storage, like db.r6gd.xlarge, but was " + optimizedReadsInstanceClass);
+            }
+            this.optimizedReadsInstanceClass = Optional.of(optimizedReadsInstanceClass);
+            return this;
+        }
+
+        private static void validateCapacity(String name, double capacityInAcus) {
+            if (capacityInAcus < 0.5 || capacityInAcus > 256 || capacityInAcus * 2 != Math.floor(capacityInAcus * 2)) {
+                throw new IllegalArgumentException(name + " must be between 0.5 and 256 in steps of 0.5 but was " + capacityInAcus);
+            }
+        }
 
         public DatabaseInputParameters withStorageInGb(int storageInGb) {
             this.storageInGb = storageInGb;
             return this;
         }
 
+        /**
+         * Whether the MYSQL engine runs in a single AZ, with a standby instance, or as a Multi-AZ DB cluster with two
+         * readable standbys. The Multi-AZ modes survive the failure of an AZ.
+         * <p>
+         * Default: NONE.
+         */
+        public DatabaseInputParameters withMultiAzMode(MultiAzMode multiAzMode) {
+            Objects.requireNonNull(multiAzMode);
+            this.multiAzMode = multiAzMode;
+            return this;
+        }
+
+        /**
+         * The storage type of the MYSQL engine. The IOPS and throughput are validated against the storage type and size
+         * when the {@link Database} construct is created.
+         * <p>
+         * Default: GP3.
+         */
+        public DatabaseInputParameters withStorageType(DatabaseStorageType storageType) {
+            Objects.requireNonNull(storageType);
+            this.storageType = storageType;
+            return this;
+        }
+
+        /**
+         * The provisioned IOPS. Required for IO2 (1000 to 256000, at most 1000 per GB). For GP3 only from 400 GB on
+         * (12000 to 64000), smaller GP3 volumes always have 3000 IOPS.
+         * <p>
+         * Default: the baseline of the storage type.
+         */
+        public DatabaseInputParameters withIops(int iops) {
+            this.iops = Optional.of(iops);
+            return this;
+        }
+
+        /**
+         * The provisioned storage throughput in MiBps. Only for GP3 from 400 GB on (500 to 4000, at most 0.25 MiBps
+         * per provisioned IOPS), smaller GP3 volumes always have 125 MiBps.
+         * <p>
+         * Default: the baseline of the storage type.
+         */
+        public DatabaseInputParameters withStorageThroughputInMibps(int storageThroughputInMibps) {
+            this.storageThroughputInMibps = Optional.of(storageThroughputInMibps);
+            return this;
+        }
+
+        /**
+         * The size in GB up to which RDS grows the storage automatically when it runs low on free space.
+         * <p>
+         * Default: no storage autoscaling.
+         */
+        public DatabaseInputParameters withMaxAllocatedStorageInGb(int maxAllocatedStorageInGb) {
+            this.maxAllocatedStorageInGb = Optional.of(maxAllocatedStorageInGb);
+            return this;
+        }
+
+        private void validateStorage() {
+            if (multiAzMode == MultiAzMode.READABLE_STANDBYS_CLUSTER) {
+                if (storageType == DatabaseStorageType.GP2 || storageThroughputInMibps.isPresent() || maxAllocatedStorageInGb.isPresent()) {
+                    throw new IllegalArgumentException("a Multi-AZ DB cluster needs GP3 or IO2 storage and supports neither storageThroughputInMibps nor maxAllocatedStorageInGb");
+                }
+                if (instanceClass.startsWith("db.t")) {
+                    throw new IllegalArgumentException("a Multi-AZ DB cluster doesn't support burstable instance classes like " + instanceClass);
+                }
+            }
+            if (maxAllocatedStorageInGb.isPresent() && (maxAllocatedStorageInGb.get() <= storageInGb || maxAllocatedStorageInGb.get() > 65536)) {
+                throw new IllegalArgumentException("maxAllocatedStorageInGb must be greater than storageInGb (" + storageInGb + ") and at most 65536 but was " + maxAllocatedStorageInGb.get());
+            }
+
+            switch (storageType) {
+                case GP2 -> {
+                    if (iops.isPresent() || storageThroughputInMibps.isPresent()) {
+                        throw new IllegalArgumentException("iops and storageThroughputInMibps cannot be provisioned for GP2 storage");
+                    }
+                }
+                case GP3 -> {
+                    if (storageInGb < GP3_PROVISIONING_THRESHOLD_IN_GB) {
+                        if (iops.isPresent() || storageThroughputInMibps.isPresent()) {
+                            throw new IllegalArgumentException("GP3 storage below " + GP3_PROVISIONING_THRESHOLD_IN_GB + " GB has a fixed baseline of 3000 IOPS and 125 MiBps, "
+                                    + "iops and storageThroughputInMibps can only be provisioned from " + GP3_PROVISIONING_THRESHOLD_IN_GB + " GB on but storageInGb was " + storageInGb);
+                        }
+                        return;
+                    }
+                    int provisionedIops = iops.orElse(12000);
+                    int provisionedThroughput = storageThroughputInMibps.orElse(500);
+                    if (provisionedIops < 12000 || provisionedIops > 64000) {
+                        throw new IllegalArgumentException("iops must be between 12000 and 64000 for GP3 storage of " + storageInGb + " GB but was " + provisionedIops);
+                    }
+                    if (provisionedThroughput < 500 || provisionedThroughput > 4000) {
+                        throw new IllegalArgumentException("storageThroughputInMibps must be between 500 and 4000 for GP3 storage of " + storageInGb + " GB but was " + provisionedThroughput);
+                    }
+                    if (provisionedThroughput > provisionedIops / 4) {
+                        throw new IllegalArgumentException("storageThroughputInMibps must be at most 0.25 MiBps per IOPS (" + provisionedIops / 4 + ") but was " + provisionedThroughput);
+                    }
+                }
+                case IO2 -> {
+                    if (storageInGb < 100) {
+                        throw new IllegalArgumentException("IO2 storage must be at least 100 GB but storageInGb was " + storageInGb);
+                    }
+                    if (iops.isEmpty() || iops.get() < 1000 || iops.get() > Math.min(256000, storageInGb * 1000)) {
+                        throw new IllegalArgumentException("iops is required for IO2 storage and must be between 1000 and " + Math.min(256000, storageInGb * 1000) + " but was " + iops.orElse(null));
+                    }
+                    if (storageThroughputInMibps.isPresent()) {
+                        throw new IllegalArgumentException("storageThroughputInMibps cannot be provisioned for IO2 storage");
+                    }
+                }
+            }
+        }
+
         public DatabaseInputParameters withInstanceClass(String instanceClass) {
             this.instanceClass = instanceClass;
             return this;
@@ -237,6 +1412,231 @@ public class Database extends Construct {
             this.databaseInstanceVersion = databaseInstanceVersion;
             return this;
         }
+
+        /**
+         * Creates the database as a cross-region read replica of the database of the same application environment
+         * in the given region. The replica is read-only, so the applications in its region can't write to it
+         * (see {@link #withGlobalClusterSourceRegion(String)} for a database that accepts writes in every region). The source database must replicate its secret into this region
+         * (see {@link #withSecretReplicaRegions(List)}).
+         */
+        public DatabaseInputParameters withReplicaSourceRegion(String replicaSourceRegion) {
+            Objects.requireNonNull(replicaSourceRegion);
+            this.replicaSourceRegion = Optional.of(replicaSourceRegion);
+            return this;
+        }
+
+        /**
+         * Makes the Aurora cluster the primary cluster of a global database, which secondary clusters in other regions
+         * can join (see {@link #withGlobalClusterSourceRegion(String)}). The primary cluster should replicate its
+         * secret into these regions (see {@link #withSecretReplicaRegions(List)}).
+         * <p>
+         * Default: false.
+         */
+        public DatabaseInputParameters withGlobalClusterEnabled(boolean globalClusterEnabled) {
+            this.globalClusterEnabled = globalClusterEnabled;
+            return this;
+        }
+
+        /**
+         * Creates the Aurora cluster as a secondary cluster of the global database of the same application environment,
+         * whose primary cluster is in the given region. The secondary cluster serves the reads in its region and
+         * forwards the writes to the primary cluster (write forwarding), so the applications in both regions can write.
+         */
+        public DatabaseInputParameters withGlobalClusterSourceRegion(String globalClusterSourceRegion) {
+            Objects.requireNonNull(globalClusterSourceRegion);
+            this.globalClusterSourceRegion = Optional.of(globalClusterSourceRegion);
+            return this;
+        }
+
+        /**
+         * The regions the database secret is replicated to, so that cross-region read replicas and the services
+         * in these regions can use the same credentials.
+         * <p>
+         * Default: none (empty list).
+         */
+        public DatabaseInputParameters withSecretReplicaRegions(List<String> secretReplicaRegions) {
+            Objects.requireNonNull(secretReplicaRegions);
+            this.secretReplicaRegions = secretReplicaRegions;
+            return this;
+        }
+
+        /**
+         * Disable or enable an RDS proxy in front of the database. The services connect to the proxy instead of the
+         * instance, which pools the connections of all tasks. Not available for cross-region read replicas.
+         * <p>
+         * Default: false.
+         */
+        public DatabaseInputParameters withProxyEnabled(boolean proxyEnabled) {
+            this.proxyEnabled = proxyEnabled;
+            return this;
+        }
+
+        /**
+         * The number of seconds a client waits for a free database connection of the proxy before its request fails.
+         * <p>
+         * Default: 120.
+         */
+        public DatabaseInputParameters withProxyConnectionBorrowTimeoutSeconds(int proxyConnectionBorrowTimeoutSeconds) {
+            if (proxyConnectionBorrowTimeoutSeconds < 0 || proxyConnectionBorrowTimeoutSeconds > 3600) {
+                throw new IllegalArgumentException("proxyConnectionBorrowTimeoutSeconds must be between 0 and 3600 but was " + proxyConnectionBorrowTimeoutSeconds);
+            }
+            this.proxyConnectionBorrowTimeoutSeconds = proxyConnectionBorrowTimeoutSeconds;
+            return this;
+        }
+
+        /**
+         * The maximum number of connections the proxy opens, as a percentage of the max_connections of the database.
+         * Keep it below 100 to leave connections for administration and migrations that bypass the proxy.
+         * <p>
+         * Default: 100.
+         */
+        public DatabaseInputParameters withProxyMaxConnectionsPercent(int proxyMaxConnectionsPercent) {
+            if (proxyMaxConnectionsPercent < 1 || proxyMaxConnectionsPercent > 100) {
+                throw new IllegalArgumentException("proxyMaxConnectionsPercent must be between 1 and 100 but was " + proxyMaxConnectionsPercent);
+            }
+            this.proxyMaxConnectionsPercent = proxyMaxConnectionsPercent;
+            return this;
+        }
+
+        /**
+         * One or more SQL statements the proxy runs when it opens a new database connection, for example
+         * "SET time_zone = '+00:00'". Session state set by the application pins the client to a connection,
+         * so settings every connection needs belong here.
+         * <p>
+         * Default: none.
+         */
+        public DatabaseInputParameters withProxyInitQuery(String proxyInitQuery) {
+            Objects.requireNonNull(proxyInitQuery);
+            this.proxyInitQuery = Optional.of(proxyInitQuery);
+            return this;
+        }
+
+        /**
+         * The number of read replicas of the database. The replicas are reachable under a single reader endpoint,
+         * so read-only transactions can be routed to them without scaling up the primary. For the
+         * AURORA_MYSQL_SERVERLESS_V2 engine, this is the number of reader instances of the cluster.
+         * <p>
+         * Default: 0.
+         */
+        public DatabaseInputParameters withReadReplicaCount(int readReplicaCount) {
+            if (readReplicaCount < 0 || readReplicaCount > 15) {
+                throw new IllegalArgumentException("readReplicaCount must be between 0 and 15 but was " + readReplicaCount);
+            }
+            this.readReplicaCount = readReplicaCount;
+            return this;
+        }
+
+        /**
+         * The instance class of the read replicas of the MYSQL engine.
+         * <p>
+         * Default: the instance class of the primary.
+         */
+        public DatabaseInputParameters withReadReplicaInstanceClass(String readReplicaInstanceClass) {
+            Objects.requireNonNull(readReplicaInstanceClass);
+            this.readReplicaInstanceClass = Optional.of(readReplicaInstanceClass);
+            return this;
+        }
+
+        /**
+         * The AZs the read replicas of the MYSQL engine are placed in, assigned round-robin. The AZs must be part of
+         * the VPC. Aurora places its instances across the AZs of the subnet group itself.
+         * <p>
+         * Default: placed by RDS in any AZ of the VPC, which may be the AZ of the primary.
+         */
+        public DatabaseInputParameters withReadReplicaAvailabilityZones(List<String> readReplicaAvailabilityZones) {
+            Objects.requireNonNull(readReplicaAvailabilityZones);
+            this.readReplicaAvailabilityZones = readReplicaAvailabilityZones;
+            return this;
+        }
+
+        /**
+         * Enables Performance Insights on all instances and keeps its data for the given number of days: 7 (free tier)
+         * or a multiple of 31 up to 731. Performance Insights is not available for the smallest instance classes
+         * like db.t3.micro and db.t3.small.
+         * <p>
+         * Default: Performance Insights disabled.
+         */
+        public DatabaseInputParameters withPerformanceInsightsRetentionInDays(int performanceInsightsRetentionInDays) {
+            if (performanceInsightsRetentionInDays != 7 && (performanceInsightsRetentionInDays % 31 != 0
+                    || performanceInsightsRetentionInDays < 31 || performanceInsightsRetentionInDays > 731)) {
+                throw new IllegalArgumentException("performanceInsightsRetentionInDays must be 7 or a multiple of 31 up to 731 but was " + performanceInsightsRetentionInDays);
+            }
+            this.performanceInsightsRetentionInDays = Optional.of(performanceInsightsRetentionInDays);
+            return this;
+        }
+
+        /**
+         * The ARN of the KMS key that encrypts the Performance Insights data.
+         * <p>
+         * Default: the AWS managed key of RDS.
+         */
+        public DatabaseInputParameters withPerformanceInsightsKmsKeyArn(String performanceInsightsKmsKeyArn) {
+            Objects.requireNonNull(performanceInsightsKmsKeyArn);
+            this.performanceInsightsKmsKeyArn = Optional.of(performanceInsightsKmsKeyArn);
+            return this;
+        }
+
+        /**
+         * The interval in which Enhanced Monitoring collects OS metrics: 1, 5, 10, 15, 30 or 60 seconds,
+         * or 0 to disable Enhanced Monitoring.
+         * <p>
+         * Default: 60.
+         */
+        public DatabaseInputParameters withEnhancedMonitoringIntervalSeconds(int enhancedMonitoringIntervalSeconds) {
+            if (!List.of(0, 1, 5, 10, 15, 30, 60).contains(enhancedMonitoringIntervalSeconds)) {
+                throw new IllegalArgumentException("enhancedMonitoringIntervalSeconds must be 0, 1, 5, 10, 15, 30 or 60 but was " + enhancedMonitoringIntervalSeconds);
+            }
+            this.enhancedMonitoringIntervalSeconds = enhancedMonitoringIntervalSeconds;
+            return this;
+        }
+
+        /**
+         * The MySQL logs to publish to CloudWatch Logs. An empty list disables the export.
+         * <p>
+         * Default: ERROR and SLOWQUERY.
+         */
+        public DatabaseInputParameters withLogExports(List<DatabaseLogType> logExports) {
+            Objects.requireNonNull(logExports);
+            this.logExports = logExports;
+            return this;
+        }
+
+        /**
+         * The duration in seconds after which a query is written to the slow query log.
+         * <p>
+         * Default: the long_query_time of the parameter profile (1 second for OLTP_SMALL).
+         */
+        public DatabaseInputParameters withLongQueryTimeSeconds(double longQueryTimeSeconds) {
+            if (longQueryTimeSeconds < 0 || longQueryTimeSeconds > 3600) {
+                throw new IllegalArgumentException("longQueryTimeSeconds must be between 0 and 3600 but was " + longQueryTimeSeconds);
+            }
+            this.longQueryTimeSeconds = Optional.of(longQueryTimeSeconds);
+            return this;
+        }
+
+        /**
+         * The duration the exported logs are kept in CloudWatch Logs.
+         * <p>
+         * Default: 1 month.
+         */
+        public DatabaseInputParameters withLogRetention(RetentionDays logRetention) {
+            Objects.requireNonNull(logRetention);
+            this.logRetention = logRetention;
+            return this;
+        }
+
+        /**
+         * The number of slow queries within 5 minutes from which on the slow query alarm goes off.
+         * <p>
+         * Default: 10.
+         */
+        public DatabaseInputParameters withSlowQueryAlarmThreshold(int slowQueryAlarmThreshold) {
+            if (slowQueryAlarmThreshold < 1) {
+                throw new IllegalArgumentException("slowQueryAlarmThreshold must be at least 1 but was " + slowQueryAlarmThreshold);
+            }
+            this.slowQueryAlarmThreshold = slowQueryAlarmThreshold;
+            return this;
+        }
     }
 
     public static class DatabaseOutputParameters {
@@ -246,6 +1646,8 @@ public class Database extends Construct {
         private final String databaseSecretArn;
         private final String databaseSecurityGroupId;
         private final String instanceId;
+        private final String proxyEndpointAddress;
+        private final String readerEndpointAddress;
 
         public DatabaseOutputParameters(
                 String endpointAddress,
@@ -253,13 +1655,17 @@ public class Database extends Construct {
                 String dbName,
                 String databaseSecretArn,
                 String databaseSecurityGroupId,
-                String instanceId) {
+                String instanceId,
+                String proxyEndpointAddress,
+                String readerEndpointAddress) {
             this.endpointAddress = endpointAddress;
             this.endpointPort = endpointPort;
             this.dbName = dbName;
             this.databaseSecretArn = databaseSecretArn;
             this.databaseSecurityGroupId = databaseSecurityGroupId;
             this.instanceId = instanceId;
+            this.proxyEndpointAddress = proxyEndpointAddress;
+            this.readerEndpointAddress = readerEndpointAddress;
         }
 
         /**
@@ -304,5 +1710,19 @@ public class Database extends Construct {
         public String getInstanceId() {
             return instanceId;
         }
+
+        /**
+         * The URL of the RDS proxy in front of the database. Equals the URL of the database if no proxy is enabled.
+         */
+        public String getProxyEndpointAddress() {
+            return proxyEndpointAddress;
+        }
+
+        /**
+         * The URL of the read replicas of the database. Equals the URL of the database if there are no read replicas.
+         */
+        public String getReaderEndpointAddress() {
+            return readerEndpointAddress;
+        }
     }
 }
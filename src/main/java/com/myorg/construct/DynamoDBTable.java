@@ -1,16 +1,71 @@
 package com.myorg.construct;
 
+import org.jetbrains.annotations.NotNull;
+import software.amazon.awscdk.Duration;
 import software.amazon.awscdk.RemovalPolicy;
+import software.amazon.awscdk.services.dax.CfnCluster;
+import software.amazon.awscdk.services.dax.CfnParameterGroup;
+import software.amazon.awscdk.services.dax.CfnSubnetGroup;
 import software.amazon.awscdk.services.dynamodb.*;
+import software.amazon.awscdk.services.ec2.CfnSecurityGroup;
+import software.amazon.awscdk.services.ec2.CfnSecurityGroupIngress;
+import software.amazon.awscdk.services.iam.Effect;
+import software.amazon.awscdk.services.iam.PolicyStatement;
+import software.amazon.awscdk.services.iam.Role;
+import software.amazon.awscdk.services.iam.ServicePrincipal;
+import software.amazon.awscdk.services.kinesisfirehose.CfnDeliveryStream;
+import software.amazon.awscdk.services.lambda.Code;
+import software.amazon.awscdk.services.lambda.FilterCriteria;
+import software.amazon.awscdk.services.lambda.FilterRule;
+import software.amazon.awscdk.services.lambda.Function;
+import software.amazon.awscdk.services.lambda.Runtime;
+import software.amazon.awscdk.services.lambda.StartingPosition;
+import software.amazon.awscdk.services.lambda.eventsources.DynamoEventSource;
+import software.amazon.awscdk.services.lambda.eventsources.SqsDlq;
+import software.amazon.awscdk.services.s3.BlockPublicAccess;
+import software.amazon.awscdk.services.s3.Bucket;
+import software.amazon.awscdk.services.s3.BucketEncryption;
+import software.amazon.awscdk.services.s3.LifecycleRule;
+import software.amazon.awscdk.services.s3.StorageClass;
+import software.amazon.awscdk.services.s3.Transition;
+import software.amazon.awscdk.services.sqs.Queue;
+import software.amazon.awscdk.services.ssm.StringParameter;
 import software.constructs.Construct;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import static com.myorg.constant.AWSParameter.*;
+import static java.util.Collections.singletonList;
+
 /**
  * @author : Nguyen Van Quoc Tuan
  * @date: 5/28/2024, Tuesday
  * @description:
+ *
+ * Optionally puts a DAX cluster in front of the table. DAX caches items and query results in memory, so hot keys
+ * are read within microseconds and without consuming read capacity of the table. The cluster runs in the isolated
+ * subnets of the network with its own security group and only accepts TLS connections.
+ *
+ * The following parameters need to exist in the SSM parameter store for the DAX cluster to successfully deploy:
+ *****<environmentName>-Network-vpcId: ID of the VPC to deploy the DAX cluster into.
+ *****<environmentName>-Network-isolatedSubnetIds: IDs of the isolated subnets to deploy the DAX cluster into.
+ * With a DAX cluster, the stack exposes the following output parameters in the SSM parameter store:
+ ***** <environmentName>-<applicationName>-DynamoDb-daxEndpoint: discovery endpoint URL of the DAX cluster
+ ***** <environmentName>-<applicationName>-DynamoDb-daxClusterArn: ARN of the DAX cluster
+ ***** <environmentName>-<applicationName>-DynamoDb-daxSecurityGroupId: ID of the DAX cluster's security group
+ * With a TTL attribute, the items deleted by TTL are archived into an S3 bucket, exposed in the SSM parameter store as:
+ ***** <environmentName>-<applicationName>-DynamoDb-archiveBucketName: name of the bucket of the expired items
  **/
 public class DynamoDBTable extends Construct {
 
+    private static final int DAX_TLS_PORT = 9111;
+
+    private final Table table;
+
     public DynamoDBTable(
             final Construct scope,
             final String id,
@@ -19,26 +74,680 @@ public class DynamoDBTable extends Construct {
     ){
         super(scope, id);
 
-        new Table(scope,
+        if (!inputParameters.localSecondaryIndexes.isEmpty() && inputParameters.sortKey.isEmpty()) {
+            throw new IllegalArgumentException("local secondary indexes need a table with a sort key");
+        }
+
+        TableProps.Builder tableProps = TableProps.builder()
+                .partitionKey(inputParameters.partitionKey)
+                .sortKey(inputParameters.sortKey.orElse(null))
+                .tableName(applicationEnvironment.prefix(inputParameters.tableName))
+                .tableClass(inputParameters.tableClass)
+                .timeToLiveAttribute(inputParameters.timeToLiveAttribute.orElse(null))
+                .encryption(TableEncryption.AWS_MANAGED)
+                .billingMode(inputParameters.billingMode)
+                .removalPolicy(RemovalPolicy.DESTROY);
+
+        if (inputParameters.billingMode == BillingMode.PROVISIONED) {
+            // The initial capacity, autoscaling moves it between the bounds afterwards.
+            tableProps.readCapacity(inputParameters.tableCapacity.minReadCapacity)
+                    .writeCapacity(inputParameters.tableCapacity.minWriteCapacity);
+        }
+
+        boolean archiveExpiredItems = inputParameters.timeToLiveAttribute.isPresent() && inputParameters.expiredItemArchiveEnabled;
+        if (archiveExpiredItems || inputParameters.streamEnabled) {
+            // The archive needs the old image of the expired items, global tables and consumers of new items
+            // need the new image.
+            tableProps.stream(StreamViewType.NEW_AND_OLD_IMAGES);
+        }
+
+        if (!inputParameters.replicationRegions.isEmpty()) {
+            // Every replica of a global table must absorb the writes replicated from the other regions,
+            // so a provisioned global table needs autoscaled write capacity (which is always configured below).
+            tableProps.replicationRegions(inputParameters.replicationRegions);
+        }
+
+        this.table = new Table(scope,
                 "BistroDynamoDB",
-                TableProps.builder()
-                        .partitionKey(Attribute.builder()
-                                .name("id")
-                                .type(AttributeType.STRING)
-                                .build())
-                        .tableName(applicationEnvironment.prefix(inputParameters.tableName))
-                        .billingMode(BillingMode.PROVISIONED)
-                        .tableClass(TableClass.STANDARD)
-                        .writeCapacity(5)
-                        .readCapacity(5)
-                        .encryption(TableEncryption.AWS_MANAGED)
-                        .removalPolicy(RemovalPolicy.DESTROY)
-                        .build()
+                tableProps.build()
                 );
+
+        // Local secondary indexes share the partition key and the capacity of the table.
+        for (LocalSecondaryIndexProps localSecondaryIndex : inputParameters.localSecondaryIndexes) {
+            table.addLocalSecondaryIndex(localSecondaryIndex);
+        }
+
+        for (GlobalSecondaryIndexProps globalSecondaryIndex : inputParameters.globalSecondaryIndexes) {
+            if (inputParameters.billingMode == BillingMode.PROVISIONED) {
+                ProvisionedCapacity indexCapacity = inputParameters.indexCapacities
+                        .getOrDefault(globalSecondaryIndex.getIndexName(), inputParameters.tableCapacity);
+                table.addGlobalSecondaryIndex(GlobalSecondaryIndexProps.builder()
+                        .indexName(globalSecondaryIndex.getIndexName())
+                        .partitionKey(globalSecondaryIndex.getPartitionKey())
+                        .sortKey(globalSecondaryIndex.getSortKey())
+                        .projectionType(globalSecondaryIndex.getProjectionType())
+                        .nonKeyAttributes(globalSecondaryIndex.getNonKeyAttributes())
+                        .readCapacity(indexCapacity.minReadCapacity)
+                        .writeCapacity(indexCapacity.minWriteCapacity)
+                        .build());
+                autoScale(table, Optional.of(globalSecondaryIndex.getIndexName()), indexCapacity);
+            } else {
+                table.addGlobalSecondaryIndex(globalSecondaryIndex);
+            }
+        }
+
+        if (inputParameters.billingMode == BillingMode.PROVISIONED) {
+            autoScale(table, Optional.empty(), inputParameters.tableCapacity);
+        } else if (inputParameters.maxReadRequestUnits.isPresent() || inputParameters.maxWriteRequestUnits.isPresent()) {
+            CfnTable cfnTable = (CfnTable) table.getNode().getDefaultChild();
+            cfnTable.setOnDemandThroughput(CfnTable.OnDemandThroughputProperty.builder()
+                    .maxReadRequestUnits(inputParameters.maxReadRequestUnits.orElse(null))
+                    .maxWriteRequestUnits(inputParameters.maxWriteRequestUnits.orElse(null))
+                    .build());
+        }
+
+        if (archiveExpiredItems) {
+            createExpiredItemArchive(applicationEnvironment, inputParameters, table);
+        }
+
+        if (inputParameters.daxEnabled) {
+            createDaxCluster(applicationEnvironment, inputParameters, table);
+        }
     }
 
+    public Table getTable() {
+        return table;
+    }
+
+    /**
+     * Archives the items deleted by TTL: a function reads them from the table stream and puts them into a Firehose
+     * delivery stream, which writes them as GZIP-compressed JSON lines into an S3 prefix partitioned by day, so the
+     * history can be queried with Athena. Items deleted by the application are not archived. Batches that still fail
+     * after all retries are described in a dead-letter queue; the stream keeps the items for 24 hours to replay them.
+     */
+    private void createExpiredItemArchive(
+            ApplicationEnvironment applicationEnvironment,
+            DynamoDBInputParameters inputParameters,
+            Table table) {
+        String tableName = applicationEnvironment.prefix(inputParameters.tableName);
+
+        Bucket archiveBucket = Bucket.Builder.create(this, "archiveBucket")
+                .encryption(BucketEncryption.S3_MANAGED)
+                .blockPublicAccess(BlockPublicAccess.BLOCK_ALL)
+                .enforceSsl(true)
+                .lifecycleRules(singletonList(LifecycleRule.builder()
+                        .transitions(singletonList(Transition.builder()
+                                .storageClass(StorageClass.INFREQUENT_ACCESS)
+                                .transitionAfter(Duration.days(30))
+                                .build()))
+                        .build()))
+                // The archive is the only copy of the expired items.
+                .removalPolicy(RemovalPolicy.RETAIN)
+                .build();
+
+        Role firehoseRole = Role.Builder.create(this, "archiveDeliveryStreamRole")
+                .assumedBy(ServicePrincipal.Builder.create("firehose.amazonaws.com").build())
+                .build();
+        archiveBucket.grantReadWrite(firehoseRole);
+
+        CfnDeliveryStream archiveDeliveryStream = CfnDeliveryStream.Builder.create(this, "archiveDeliveryStream")
+                .deliveryStreamName(applicationEnvironment.prefix(inputParameters.tableName + "-archive"))
+                .deliveryStreamType("DirectPut")
+                .extendedS3DestinationConfiguration(CfnDeliveryStream.ExtendedS3DestinationConfigurationProperty.builder()
+                        .bucketArn(archiveBucket.getBucketArn())
+                        .roleArn(firehoseRole.getRoleArn())
+                        .prefix(tableName + "/expired/year=!{timestamp:yyyy}/month=!{timestamp:MM}/day=!{timestamp:dd}/")
+                        .errorOutputPrefix(tableName + "/errors/!{firehose:error-output-type}/year=!{timestamp:yyyy}/month=!{timestamp:MM}/day=!{timestamp:dd}/")
+                        .compressionFormat("GZIP")
+                        .fileExtension(".json.gz")
+                        .bufferingHints(CfnDeliveryStream.BufferingHintsProperty.builder()
+                                .intervalInSeconds(300)
+                                .sizeInMBs(64)
+                                .build())
+                        .build())
+                .build();
+        // Firehose checks its access to the bucket when the delivery stream is created.
+        archiveDeliveryStream.getNode().addDependency(firehoseRole);
+
+        Function archiveFunction = Function.Builder.create(this, "archiveExpiredItemsFunction")
+                .runtime(Runtime.NODEJS_20_X)
+                .handler("index.handler")
+                .timeout(Duration.minutes(1))
+                .environment(Map.of("DELIVERY_STREAM_NAME", archiveDeliveryStream.getRef()))
+                .code(Code.fromInline("""
+                        const { FirehoseClient, PutRecordBatchCommand } = require('@aws-sdk/client-firehose');
+                        const { unmarshall } = require('@aws-sdk/util-dynamodb');
+                        const firehose = new FirehoseClient({});
+                        exports.handler = async (event) => {
+                          const records = event.Records.map((record) => ({
+                            Data: Buffer.from(JSON.stringify({
+                              ...unmarshall(record.dynamodb.OldImage),
+                              expiredAt: new Date(record.dynamodb.ApproximateCreationDateTime * 1000).toISOString()
+                            }) + '\\n')
+                          }));
+                          for (let i = 0; i < records.length; i += 500) {
+                            const result = await firehose.send(new PutRecordBatchCommand({
+                              DeliveryStreamName: process.env.DELIVERY_STREAM_NAME,
+                              Records: records.slice(i, i + 500)
+                            }));
+                            if (result.FailedPutCount > 0) {
+                              // The whole batch is retried, so some items may be archived twice.
+                              throw new Error(result.FailedPutCount + ' expired items could not be archived');
+                            }
+                          }
+                        };"""))
+                .build();
+        archiveFunction.addToRolePolicy(PolicyStatement.Builder.create()
+                .effect(Effect.ALLOW)
+                .actions(singletonList("firehose:PutRecordBatch"))
+                .resources(singletonList(archiveDeliveryStream.getAttrArn()))
+                .build());
+
+        Queue deadLetterQueue = Queue.Builder.create(this, "archiveDlq")
+                .retentionPeriod(Duration.days(14))
+                .build();
+
+        // TTL deletions are the REMOVE records of the DynamoDB service principal.
+        archiveFunction.addEventSource(DynamoEventSource.Builder.create(table)
+                .startingPosition(StartingPosition.TRIM_HORIZON)
+                .batchSize(100)
+                .maxBatchingWindow(Duration.seconds(30))
+                .bisectBatchOnError(true)
+                .retryAttempts(10)
+                .onFailure(new SqsDlq(deadLetterQueue))
+                .filters(singletonList(FilterCriteria.filter(Map.of(
+                        "eventName", FilterRule.isEqual("REMOVE"),
+                        "userIdentity", Map.of(
+                                "type", FilterRule.isEqual("Service"),
+                                "principalId", FilterRule.isEqual("dynamodb.amazonaws.com"))))))
+                .build());
+
+        StringParameter archiveBucketName = StringParameter.Builder.create(this, "archiveBucketName")
+                .parameterName(createParameterName(applicationEnvironment, PARAMETER_ARCHIVE_BUCKET_NAME))
+                .stringValue(archiveBucket.getBucketName())
+                .build();
+
+        applicationEnvironment.tag(this);
+    }
+
+    private void createDaxCluster(
+            ApplicationEnvironment applicationEnvironment,
+            DynamoDBInputParameters inputParameters,
+            Table table) {
+        Network.NetworkOutputParameters networkOutputParameters = Network
+                .getOutputParametersFromParameterStore(this, applicationEnvironment.getEnvironmentName());
+
+        CfnSecurityGroup daxSecurityGroup = CfnSecurityGroup.Builder.create(this, "daxSecurityGroup")
+                .vpcId(networkOutputParameters.getVpcId())
+                .groupDescription("Security Group for the DAX cluster")
+                .groupName(applicationEnvironment.prefix("daxSecurityGroup"))
+                .build();
+
+        CfnSecurityGroupIngress daxIngressFromSelf = CfnSecurityGroupIngress.Builder.create(this, "daxIngressFromSelf")
+                .ipProtocol("tcp")
+                .fromPort(DAX_TLS_PORT)
+                .groupId(daxSecurityGroup.getAttrGroupId())
+                .sourceSecurityGroupId(daxSecurityGroup.getAttrGroupId())
+                .toPort(DAX_TLS_PORT)
+                .build();
+
+        CfnSubnetGroup daxSubnetGroup = CfnSubnetGroup.Builder.create(this, "daxSubnetGroup")
+                .subnetGroupName(applicationEnvironment.prefix("daxSubnetGroup"))
+                .description("Subnet group for the DAX cluster")
+                .subnetIds(networkOutputParameters.getIsolatedSubnets())
+                .build();
+
+        // The item cache serves GetItem/BatchGetItem, the query cache serves Query/Scan. Writes through DAX update
+        // the item cache, but not the query cache, so cached query results are stale for up to the query TTL.
+        CfnParameterGroup daxParameterGroup = CfnParameterGroup.Builder.create(this, "daxParameterGroup")
+                .parameterGroupName(applicationEnvironment.prefix("daxParameterGroup"))
+                .description("TTLs of the item and query cache of the DAX cluster")
+                .parameterNameValues(Map.of(
+                        "record-ttl-millis", String.valueOf(inputParameters.daxItemTtlMillis),
+                        "query-ttl-millis", String.valueOf(inputParameters.daxQueryTtlMillis)))
+                .build();
+
+        // DAX reads from and writes to the table with this role on behalf of its clients.
+        Role daxRole = Role.Builder.create(this, "daxRole")
+                .assumedBy(ServicePrincipal.Builder.create("dax.amazonaws.com").build())
+                .build();
+        daxRole.addToPolicy(PolicyStatement.Builder.create()
+                .effect(Effect.ALLOW)
+                .resources(List.of(table.getTableArn(), table.getTableArn() + "/index/*"))
+                .actions(List.of(
+                        "dynamodb:BatchGetItem",
+                        "dynamodb:BatchWriteItem",
+                        "dynamodb:ConditionCheckItem",
+                        "dynamodb:DeleteItem",
+                        "dynamodb:DescribeTable",
+                        "dynamodb:GetItem",
+                        "dynamodb:PutItem",
+                        "dynamodb:Query",
+                        "dynamodb:Scan",
+                        "dynamodb:UpdateItem"))
+                .build());
+
+        CfnCluster daxCluster = CfnCluster.Builder.create(this, "daxCluster")
+                .description("DAX cluster in front of " + applicationEnvironment.prefix(inputParameters.tableName))
+                .nodeType(inputParameters.daxNodeType)
+                .replicationFactor(inputParameters.daxNodeCount)
+                .iamRoleArn(daxRole.getRoleArn())
+                .subnetGroupName(daxSubnetGroup.getRef())
+                .parameterGroupName(daxParameterGroup.getRef())
+                .securityGroupIds(Collections.singletonList(daxSecurityGroup.getAttrGroupId()))
+                .clusterEndpointEncryptionType("TLS")
+                .sseSpecification(CfnCluster.SSESpecificationProperty.builder()
+                        .sseEnabled(true)
+                        .build())
+                .build();
+        // The role must be allowed to access the table before DAX validates it.
+        daxCluster.getNode().addDependency(daxRole);
+
+        StringParameter daxEndpoint = StringParameter.Builder.create(this, "daxEndpoint")
+                .parameterName(createParameterName(applicationEnvironment, PARAMETER_DAX_ENDPOINT))
+                .stringValue(daxCluster.getAttrClusterDiscoveryEndpointUrl())
+                .build();
+
+        StringParameter daxClusterArn = StringParameter.Builder.create(this, "daxClusterArn")
+                .parameterName(createParameterName(applicationEnvironment, PARAMETER_DAX_CLUSTER_ARN))
+                .stringValue(daxCluster.getAttrArn())
+                .build();
+
+        StringParameter daxSecurityGroupId = StringParameter.Builder.create(this, "daxSecurityGroupId")
+                .parameterName(createParameterName(applicationEnvironment, PARAMETER_DAX_SECURITY_GROUP_ID))
+                .stringValue(daxSecurityGroup.getAttrGroupId())
+                .build();
+
+        applicationEnvironment.tag(this);
+    }
+
+    @NotNull
+    private static String createParameterName(ApplicationEnvironment applicationEnvironment, String parameterName) {
+        return applicationEnvironment.getEnvironmentName() + "-" + applicationEnvironment.getApplicationName() + "-DynamoDb-" + parameterName;
+    }
+
+    /**
+     * Collects the output parameters of an already deployed DAX cluster of a {@link DynamoDBTable} construct from the
+     * parameter store. This requires that a {@link DynamoDBTable} construct with a DAX cluster has been deployed previously.
+     *
+     * @param scope       the construct in which we need the output parameters
+     * @param environment the environment for which to load the output parameters. The deployed {@link DynamoDBTable}
+     *                    construct must have been deployed into this environment.
+     */
+    public static DaxOutputParameters getDaxOutputParametersFromParameterStore(Construct scope, ApplicationEnvironment environment) {
+        return new DaxOutputParameters(
+                getParameter(scope, environment, PARAMETER_DAX_ENDPOINT),
+                getParameter(scope, environment, PARAMETER_DAX_CLUSTER_ARN),
+                getParameter(scope, environment, PARAMETER_DAX_SECURITY_GROUP_ID));
+    }
+
+    private static String getParameter(Construct scope, ApplicationEnvironment environment, String parameterName) {
+        return StringParameter.fromStringParameterName(scope, "dynamodb-" + parameterName, createParameterName(environment, parameterName))
+                .getStringValue();
+    }
+
+    /**
+     * Lets Application Auto Scaling keep the consumed capacity of the table (or of the given global secondary index)
+     * at the target utilization, within the bounds of the capacity.
+     */
+    private static void autoScale(Table table, Optional<String> indexName, ProvisionedCapacity capacity) {
+        EnableScalingProps readScaling = EnableScalingProps.builder()
+                .minCapacity(capacity.minReadCapacity)
+                .maxCapacity(capacity.maxReadCapacity)
+                .build();
+        EnableScalingProps writeScaling = EnableScalingProps.builder()
+                .minCapacity(capacity.minWriteCapacity)
+                .maxCapacity(capacity.maxWriteCapacity)
+                .build();
+        UtilizationScalingProps utilization = UtilizationScalingProps.builder()
+                .targetUtilizationPercent(capacity.targetUtilizationPercent)
+                .build();
+
+        if (indexName.isPresent()) {
+            table.autoScaleGlobalSecondaryIndexReadCapacity(indexName.get(), readScaling).scaleOnUtilization(utilization);
+            table.autoScaleGlobalSecondaryIndexWriteCapacity(indexName.get(), writeScaling).scaleOnUtilization(utilization);
+        } else {
+            table.autoScaleReadCapacity(readScaling).scaleOnUtilization(utilization);
+            table.autoScaleWriteCapacity(writeScaling).scaleOnUtilization(utilization);
+        }
+    }
+
+    /**
+     * The autoscaling bounds and target of a provisioned table or index.
+     */
+    public static class ProvisionedCapacity {
+        private final int minReadCapacity;
+        private final int maxReadCapacity;
+        private final int minWriteCapacity;
+        private final int maxWriteCapacity;
+        private int targetUtilizationPercent = 70;
+
+        /**
+         * @param minReadCapacity  the read capacity units the table never scales below.
+         * @param maxReadCapacity  the read capacity units the table never scales above.
+         * @param minWriteCapacity the write capacity units the table never scales below.
+         * @param maxWriteCapacity the write capacity units the table never scales above.
+         */
+        public ProvisionedCapacity(int minReadCapacity, int maxReadCapacity, int minWriteCapacity, int maxWriteCapacity) {
+            if (minReadCapacity < 1 || maxReadCapacity < minReadCapacity) {
+                throw new IllegalArgumentException("read capacity must be at least 1 and min <= max but was " + minReadCapacity + ".." + maxReadCapacity);
+            }
+            if (minWriteCapacity < 1 || maxWriteCapacity < minWriteCapacity) {
+                throw new IllegalArgumentException("write capacity must be at least 1 and min <= max but was " + minWriteCapacity + ".." + maxWriteCapacity);
+            }
+            this.minReadCapacity = minReadCapacity;
+            this.maxReadCapacity = maxReadCapacity;
+            this.minWriteCapacity = minWriteCapacity;
+            this.maxWriteCapacity = maxWriteCapacity;
+        }
+
+        /**
+         * The share of the provisioned capacity autoscaling aims to consume: 20 to 90 percent. A lower target leaves
+         * more headroom for bursts until the capacity has been scaled out.
+         * <p>
+         * Default: 70.
+         */
+        public ProvisionedCapacity withTargetUtilizationPercent(int targetUtilizationPercent) {
+            if (targetUtilizationPercent < 20 || targetUtilizationPercent > 90) {
+                throw new IllegalArgumentException("targetUtilizationPercent must be between 20 and 90 but was " + targetUtilizationPercent);
+            }
+            this.targetUtilizationPercent = targetUtilizationPercent;
+            return this;
+        }
+    }
+
+    public static class DynamoDBInputParameters {
+        private final String tableName;
+        private final List<String> replicationRegions;
+        private Attribute partitionKey = Attribute.builder().name("id").type(AttributeType.STRING).build();
+        private Optional<Attribute> sortKey = Optional.empty();
+        private List<GlobalSecondaryIndexProps> globalSecondaryIndexes = Collections.emptyList();
+        private List<LocalSecondaryIndexProps> localSecondaryIndexes = Collections.emptyList();
+        private TableClass tableClass = TableClass.STANDARD;
+        private Optional<String> timeToLiveAttribute = Optional.empty();
+        private boolean expiredItemArchiveEnabled = true;
+        private boolean streamEnabled = false;
+        private BillingMode billingMode = BillingMode.PAY_PER_REQUEST;
+        private ProvisionedCapacity tableCapacity = new ProvisionedCapacity(5, 100, 5, 100);
+        private Map<String, ProvisionedCapacity> indexCapacities = Collections.emptyMap();
+        private Optional<Integer> maxReadRequestUnits = Optional.empty();
+        private Optional<Integer> maxWriteRequestUnits = Optional.empty();
+        private boolean daxEnabled = false;
+        private String daxNodeType = "dax.t3.small";
+        private int daxNodeCount = 3;
+        private int daxItemTtlMillis = 300000;
+        private int daxQueryTtlMillis = 300000;
+
+        /**
+         * @param tableName          the name of the table, prefixed with the application environment.
+         * @param replicationRegions the regions to replicate the table to, making it a global table.
+         */
+        public DynamoDBInputParameters(String tableName, List<String> replicationRegions) {
+            Objects.requireNonNull(tableName);
+            Objects.requireNonNull(replicationRegions);
+            this.tableName = tableName;
+            this.replicationRegions = replicationRegions;
+        }
+
+        /**
+         * @param tableName the name of the table, prefixed with the application environment.
+         */
+        public DynamoDBInputParameters(String tableName) {
+            this(tableName, Collections.emptyList());
+        }
+
+        /**
+         * The partition key of the table. Changing the key schema replaces the table.
+         * <p>
+         * Default: "id" (string).
+         */
+        public DynamoDBInputParameters withPartitionKey(Attribute partitionKey) {
+            Objects.requireNonNull(partitionKey);
+            this.partitionKey = partitionKey;
+            return this;
+        }
+
+        /**
+         * The sort key of the table, which makes the primary key composite: items with the same partition key are
+         * stored sorted by the sort key and can be queried by ranges of it. Changing the key schema replaces the table.
+         * <p>
+         * Default: none.
+         */
+        public DynamoDBInputParameters withSortKey(Attribute sortKey) {
+            Objects.requireNonNull(sortKey);
+            this.sortKey = Optional.of(sortKey);
+            return this;
+        }
+
+        /**
+         * Global secondary indexes with their own (composite) keys and projections, to query the items by other
+         * attributes than the primary key. Indexes can be added and removed after the table has been created,
+         * one per deployment.
+         * <p>
+         * Default: none.
+         */
+        public DynamoDBInputParameters withGlobalSecondaryIndexes(List<GlobalSecondaryIndexProps> globalSecondaryIndexes) {
+            Objects.requireNonNull(globalSecondaryIndexes);
+            this.globalSecondaryIndexes = globalSecondaryIndexes;
+            return this;
+        }
+
+        /**
+         * Local secondary indexes with the partition key of the table and another sort key. They need a table with
+         * a sort key and can only be created together with the table.
+         * <p>
+         * Default: none.
+         */
+        public DynamoDBInputParameters withLocalSecondaryIndexes(List<LocalSecondaryIndexProps> localSecondaryIndexes) {
+            Objects.requireNonNull(localSecondaryIndexes);
+            this.localSecondaryIndexes = localSecondaryIndexes;
+            return this;
+        }
+
+        /**
+         * STANDARD_INFREQUENT_ACCESS stores the items at a lower price, but charges more for reads and writes.
+         * It pays off for tables whose storage costs more than their throughput.
+         * <p>
+         * Default: STANDARD.
+         */
+        public DynamoDBInputParameters withTableClass(TableClass tableClass) {
+            Objects.requireNonNull(tableClass);
+            this.tableClass = tableClass;
+            return this;
+        }
+
+        /**
+         * The attribute holding the expiry time of an item in seconds since the epoch (a number). DynamoDB deletes
+         * expired items within a few days at no cost, so reads should still filter them out. Items without the
+         * attribute never expire.
+         * <p>
+         * Default: none.
+         */
+        public DynamoDBInputParameters withTimeToLiveAttribute(String timeToLiveAttribute) {
+            Objects.requireNonNull(timeToLiveAttribute);
+            this.timeToLiveAttribute = Optional.of(timeToLiveAttribute);
+            return this;
+        }
+
+        /**
+         * Disable or enable archiving the items deleted by TTL into S3. Only applies with a TTL attribute.
+         * <p>
+         * Default: true.
+         */
+        public DynamoDBInputParameters withExpiredItemArchiveEnabled(boolean expiredItemArchiveEnabled) {
+            this.expiredItemArchiveEnabled = expiredItemArchiveEnabled;
+            return this;
+        }
+
+        /**
+         * Disable or enable a stream of the changed items (with their new and old images), for example to be
+         * consumed by a {@link StreamAggregation}. The stream is always enabled for global tables and the archive of
+         * expired items.
+         * <p>
+         * Default: false.
+         */
+        public DynamoDBInputParameters withStreamEnabled(boolean streamEnabled) {
+            this.streamEnabled = streamEnabled;
+            return this;
+        }
+
+        /**
+         * PAY_PER_REQUEST follows the traffic without any capacity planning. PROVISIONED is cheaper for steady
+         * traffic and scales the capacity of the table and its indexes between the configured bounds.
+         * <p>
+         * Default: PAY_PER_REQUEST.
+         */
+        public DynamoDBInputParameters withBillingMode(BillingMode billingMode) {
+            Objects.requireNonNull(billingMode);
+            this.billingMode = billingMode;
+            return this;
+        }
+
+        /**
+         * The autoscaling bounds and target of the table in PROVISIONED billing mode.
+         * <p>
+         * Default: 5 to 100 read and write capacity units at 70% utilization.
+         */
+        public DynamoDBInputParameters withTableCapacity(ProvisionedCapacity tableCapacity) {
+            Objects.requireNonNull(tableCapacity);
+            this.tableCapacity = tableCapacity;
+            return this;
+        }
+
+        /**
+         * The autoscaling bounds and target per global secondary index name in PROVISIONED billing mode.
+         * <p>
+         * Default: the capacity of the table for every index.
+         */
+        public DynamoDBInputParameters withIndexCapacities(Map<String, ProvisionedCapacity> indexCapacities) {
+            Objects.requireNonNull(indexCapacities);
+            this.indexCapacities = indexCapacities;
+            return this;
+        }
+
+        /**
+         * The maximum read request units per second of the table in PAY_PER_REQUEST billing mode, to cap the cost
+         * of a runaway client. Requests above the cap are throttled. Applies to the table in the deployment region.
+         * <p>
+         * Default: no cap.
+         */
+        public DynamoDBInputParameters withMaxReadRequestUnits(int maxReadRequestUnits) {
+            if (maxReadRequestUnits < 1) {
+                throw new IllegalArgumentException("maxReadRequestUnits must be at least 1 but was " + maxReadRequestUnits);
+            }
+            this.maxReadRequestUnits = Optional.of(maxReadRequestUnits);
+            return this;
+        }
+
+        /**
+         * The maximum write request units per second of the table in PAY_PER_REQUEST billing mode, to cap the cost
+         * of a runaway client. Requests above the cap are throttled. Applies to the table in the deployment region.
+         * <p>
+         * Default: no cap.
+         */
+        public DynamoDBInputParameters withMaxWriteRequestUnits(int maxWriteRequestUnits) {
+            if (maxWriteRequestUnits < 1) {
+                throw new IllegalArgumentException("maxWriteRequestUnits must be at least 1 but was " + maxWriteRequestUnits);
+            }
+            this.maxWriteRequestUnits = Optional.of(maxWriteRequestUnits);
+            return this;
+        }
+
+        /**
+         * Disable or enable a DAX cluster in front of the table.
+         * <p>
+         * Default: false.
+         */
+        public DynamoDBInputParameters withDaxEnabled(boolean daxEnabled) {
+            this.daxEnabled = daxEnabled;
+            return this;
+        }
+
+        /**
+         * The node type of the DAX cluster.
+         * <p>
+         * Default: "dax.t3.small".
+         */
+        public DynamoDBInputParameters withDaxNodeType(String daxNodeType) {
+            Objects.requireNonNull(daxNodeType);
+            this.daxNodeType = daxNodeType;
+            return this;
+        }
+
+        /**
+         * The number of nodes of the DAX cluster: one primary and up to nine read replicas. Three nodes in different
+         * AZs keep the cluster available when a node or an AZ fails.
+         * <p>
+         * Default: 3.
+         */
+        public DynamoDBInputParameters withDaxNodeCount(int daxNodeCount) {
+            if (daxNodeCount < 1 || daxNodeCount > 10) {
+                throw new IllegalArgumentException("daxNodeCount must be between 1 and 10 but was " + daxNodeCount);
+            }
+            this.daxNodeCount = daxNodeCount;
+            return this;
+        }
+
+        /**
+         * How long DAX keeps an item read with GetItem or BatchGetItem in its item cache.
+         * <p>
+         * Default: 300000 (5 minutes).
+         */
+        public DynamoDBInputParameters withDaxItemTtlMillis(int daxItemTtlMillis) {
+            if (daxItemTtlMillis < 0) {
+                throw new IllegalArgumentException("daxItemTtlMillis must not be negative but was " + daxItemTtlMillis);
+            }
+            this.daxItemTtlMillis = daxItemTtlMillis;
+            return this;
+        }
+
+        /**
+         * How long DAX keeps the result of a Query or Scan in its query cache.
+         * <p>
+         * Default: 300000 (5 minutes).
+         */
+        public DynamoDBInputParameters withDaxQueryTtlMillis(int daxQueryTtlMillis) {
+            if (daxQueryTtlMillis < 0) {
+                throw new IllegalArgumentException("daxQueryTtlMillis must not be negative but was " + daxQueryTtlMillis);
+            }
+            this.daxQueryTtlMillis = daxQueryTtlMillis;
+            return this;
+        }
+    }
+
+    public static class DaxOutputParameters {
+        private final String daxEndpoint;
+        private final String daxClusterArn;
+        private final String daxSecurityGroupId;
+
+        public DaxOutputParameters(
+                String daxEndpoint,
+                String daxClusterArn,
+                String daxSecurityGroupId) {
+            this.daxEndpoint = daxEndpoint;
+            this.daxClusterArn = daxClusterArn;
+            this.daxSecurityGroupId = daxSecurityGroupId;
+        }
+
+        /**
+         * The discovery endpoint URL of the DAX cluster, for example "daxs://my-cluster.abc123.dax-clusters.ap-southeast-1.amazonaws.com".
+         */
+        public String getDaxEndpoint() {
+            return daxEndpoint;
+        }
 
-    public record DynamoDBInputParameters(String tableName){
+        /**
+         * The ARN of the DAX cluster.
+         */
+        public String getDaxClusterArn() {
+            return daxClusterArn;
+        }
 
+        /**
+         * The DAX cluster's security group.
+         */
+        public String getDaxSecurityGroupId() {
+            return daxSecurityGroupId;
+        }
     }
 }
@@ -0,0 +1,398 @@
+package com.myorg.construct;
+
+import org.jetbrains.annotations.NotNull;
+import software.amazon.awscdk.CfnRule;
+import software.amazon.awscdk.CfnRuleAssertion;
+import software.amazon.awscdk.Duration;
+import software.amazon.awscdk.Environment;
+import software.amazon.awscdk.Fn;
+import software.amazon.awscdk.services.cloudfront.AllowedMethods;
+import software.amazon.awscdk.services.cloudfront.BehaviorOptions;
+import software.amazon.awscdk.services.cloudfront.CacheCookieBehavior;
+import software.amazon.awscdk.services.cloudfront.CacheHeaderBehavior;
+import software.amazon.awscdk.services.cloudfront.CachePolicy;
+import software.amazon.awscdk.services.cloudfront.CacheQueryStringBehavior;
+import software.amazon.awscdk.services.cloudfront.CachedMethods;
+import software.amazon.awscdk.services.cloudfront.Distribution;
+import software.amazon.awscdk.services.cloudfront.ICachePolicy;
+import software.amazon.awscdk.services.cloudfront.OriginProtocolPolicy;
+import software.amazon.awscdk.services.cloudfront.OriginRequestPolicy;
+import software.amazon.awscdk.services.cloudfront.PriceClass;
+import software.amazon.awscdk.services.cloudfront.ViewerProtocolPolicy;
+import software.amazon.awscdk.services.cloudfront.origins.HttpOrigin;
+import software.amazon.awscdk.services.ssm.StringParameter;
+import software.constructs.Construct;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import static com.myorg.constant.AWSParameter.PARAMETER_DISTRIBUTION_DOMAIN_NAME;
+import static com.myorg.constant.AWSParameter.PARAMETER_DISTRIBUTION_ID;
+
+/**
+ * @author : Nguyen Van Quoc Tuan
+ * @date: 10/19/2026, Monday
+ * @description:
+ *
+ * Puts a CloudFront distribution in front of the load balancer of the {@link Network} construct. Requests that
+ * don't match a path cache behavior are passed through to the load balancer without caching.
+ *
+ * If the load balancer has an SSL certificate, CloudFront connects with HTTPS to a domain name of the certificate
+ * that resolves to the load balancer (see {@link EdgeCacheInputParameters#withOriginDomainName}). Without it the
+ * HTTP listener would redirect CloudFront to the load balancer's own host name, so the deployment fails if the
+ * network has an HTTPS listener and CloudFront connects with HTTP.
+ *
+ * The following parameters need to exist in the SSM parameter store for this stack to successfully deploy:
+ *****<environmentName>-Network-loadBalancerDnsName: DNS name of the load balancer used as origin.
+ * The stack exposes the following output parameters in the SSM parameter store to be used in other stacks:
+ ***** <environmentName>-<applicationName>-EdgeCache-distributionDomainName: domain name of the distribution
+ ***** <environmentName>-<applicationName>-EdgeCache-distributionId: ID of the distribution
+ **/
+public class EdgeCache extends Construct {
+
+    private final ApplicationEnvironment applicationEnvironment;
+    private final Distribution distribution;
+
+    public EdgeCache(
+            final Construct scope,
+            final String id,
+            final Environment awsEnvironment,
+            final ApplicationEnvironment applicationEnvironment,
+            final EdgeCacheInputParameters edgeCacheInputParameters) {
+
+        super(scope, id);
+
+        this.applicationEnvironment = applicationEnvironment;
+        Network.NetworkOutputParameters networkOutputParameters = Network
+                .getOutputParametersFromParameterStore(this, applicationEnvironment.getEnvironmentName());
+
+        OriginProtocolPolicy originProtocolPolicy = edgeCacheInputParameters.originProtocolPolicy
+                .orElse(edgeCacheInputParameters.originDomainName.isPresent() ? OriginProtocolPolicy.HTTPS_ONLY : OriginProtocolPolicy.HTTP_ONLY);
+        if (originProtocolPolicy != OriginProtocolPolicy.HTTP_ONLY && edgeCacheInputParameters.originDomainName.isEmpty()) {
+            throw new IllegalArgumentException("originProtocolPolicy " + originProtocolPolicy + " needs an originDomainName matching the certificate of the load balancer");
+        }
+        Optional<String> httpsListenerArn = networkOutputParameters.getHttpsListenerArn();
+        if (originProtocolPolicy == OriginProtocolPolicy.HTTP_ONLY && httpsListenerArn.isPresent()) {
+            // The parameter holds "null" when the network was deployed without an SSL certificate.
+            CfnRule.Builder.create(this, "httpOriginWithoutHttpsListener")
+                    .assertions(List.of(CfnRuleAssertion.builder()
+                            .assertValue(Fn.conditionEquals(httpsListenerArn.get(), "null"))
+                            .assertDescription("the load balancer redirects HTTP to HTTPS, set an originDomainName of its certificate")
+                            .build()))
+                    .build();
+        }
+
+        HttpOrigin.Builder originBuilder = HttpOrigin.Builder.create(edgeCacheInputParameters.originDomainName
+                        .orElse(networkOutputParameters.getLoadBalancerDnsName()))
+                .protocolPolicy(originProtocolPolicy)
+                .originShieldEnabled(edgeCacheInputParameters.originShieldEnabled);
+        if (edgeCacheInputParameters.originShieldEnabled) {
+            originBuilder.originShieldRegion(edgeCacheInputParameters.originShieldRegion.orElse(awsEnvironment.getRegion()));
+        }
+        HttpOrigin loadBalancerOrigin = originBuilder.build();
+
+        Map<String, BehaviorOptions> additionalBehaviors = new LinkedHashMap<>();
+        for (PathCacheBehavior pathCacheBehavior : edgeCacheInputParameters.pathCacheBehaviors) {
+            additionalBehaviors.put(pathCacheBehavior.pathPattern, BehaviorOptions.builder()
+                    .origin(loadBalancerOrigin)
+                    .viewerProtocolPolicy(edgeCacheInputParameters.viewerProtocolPolicy)
+                    .allowedMethods(pathCacheBehavior.cached ? AllowedMethods.ALLOW_GET_HEAD_OPTIONS : AllowedMethods.ALLOW_ALL)
+                    .cachedMethods(CachedMethods.CACHE_GET_HEAD_OPTIONS)
+                    .cachePolicy(cachePolicy(pathCacheBehavior))
+                    // Cached responses must only depend on the cache key, which CloudFront forwards without a policy.
+                    .originRequestPolicy(pathCacheBehavior.cached ? null : OriginRequestPolicy.ALL_VIEWER_EXCEPT_HOST_HEADER)
+                    .compress(true)
+                    .build());
+        }
+
+        this.distribution = Distribution.Builder.create(this, "distribution")
+                .comment(applicationEnvironment.prefix("distribution"))
+                .priceClass(edgeCacheInputParameters.priceClass)
+                .defaultBehavior(BehaviorOptions.builder()
+                        .origin(loadBalancerOrigin)
+                        .viewerProtocolPolicy(edgeCacheInputParameters.viewerProtocolPolicy)
+                        .allowedMethods(AllowedMethods.ALLOW_ALL)
+                        .cachePolicy(CachePolicy.CACHING_DISABLED)
+                        .originRequestPolicy(OriginRequestPolicy.ALL_VIEWER_EXCEPT_HOST_HEADER)
+                        .compress(true)
+                        .build())
+                .additionalBehaviors(additionalBehaviors)
+                .build();
+
+        createOutputParameters();
+
+        applicationEnvironment.tag(this);
+    }
+
+    public Distribution getDistribution() {
+        return distribution;
+    }
+
+    private ICachePolicy cachePolicy(PathCacheBehavior pathCacheBehavior) {
+        if (!pathCacheBehavior.cached) {
+            return CachePolicy.CACHING_DISABLED;
+        }
+
+        String policyName = pathCacheBehavior.pathPattern.replaceAll("[^a-zA-Z0-9]", "");
+        return CachePolicy.Builder.create(this, policyName + "CachePolicy")
+                .cachePolicyName(applicationEnvironment.prefix(policyName + "-cachePolicy"))
+                .comment("Cache policy for " + pathCacheBehavior.pathPattern)
+                .defaultTtl(pathCacheBehavior.defaultTtl)
+                .maxTtl(pathCacheBehavior.maxTtl)
+                .minTtl(Duration.seconds(0))
+                .queryStringBehavior(pathCacheBehavior.queryStringAllowList.isEmpty()
+                        ? CacheQueryStringBehavior.none()
+                        : CacheQueryStringBehavior.allowList(pathCacheBehavior.queryStringAllowList.toArray(new String[0])))
+                .headerBehavior(pathCacheBehavior.headerAllowList.isEmpty()
+                        ? CacheHeaderBehavior.none()
+                        : CacheHeaderBehavior.allowList(pathCacheBehavior.headerAllowList.toArray(new String[0])))
+                .cookieBehavior(CacheCookieBehavior.none())
+                .enableAcceptEncodingBrotli(true)
+                .enableAcceptEncodingGzip(true)
+                .build();
+    }
+
+    @NotNull
+    private static String createParameterName(ApplicationEnvironment applicationEnvironment, String parameterName) {
+        return applicationEnvironment.getEnvironmentName() + "-" + applicationEnvironment.getApplicationName() + "-EdgeCache-" + parameterName;
+    }
+
+    /**
+     * Creates the outputs of this stack to be consumed by other stacks.
+     */
+    private void createOutputParameters() {
+        StringParameter distributionDomainName = StringParameter.Builder.create(this, "distributionDomainName")
+                .parameterName(createParameterName(this.applicationEnvironment, PARAMETER_DISTRIBUTION_DOMAIN_NAME))
+                .stringValue(this.distribution.getDistributionDomainName())
+                .build();
+
+        StringParameter distributionId = StringParameter.Builder.create(this, "distributionId")
+                .parameterName(createParameterName(this.applicationEnvironment, PARAMETER_DISTRIBUTION_ID))
+                .stringValue(this.distribution.getDistributionId())
+                .build();
+    }
+
+    /**
+     * Collects the output parameters of an already deployed {@link EdgeCache} construct from the parameter store.
+     */
+    public static EdgeCacheOutputParameters getOutputParametersFromParameterStore(Construct scope, ApplicationEnvironment environment) {
+        return new EdgeCacheOutputParameters(
+                getDistributionDomainName(scope, environment),
+                getDistributionId(scope, environment));
+    }
+
+    private static String getDistributionDomainName(Construct scope, ApplicationEnvironment environment) {
+        return StringParameter.fromStringParameterName(scope, PARAMETER_DISTRIBUTION_DOMAIN_NAME, createParameterName(environment, PARAMETER_DISTRIBUTION_DOMAIN_NAME))
+                .getStringValue();
+    }
+
+    private static String getDistributionId(Construct scope, ApplicationEnvironment environment) {
+        return StringParameter.fromStringParameterName(scope, PARAMETER_DISTRIBUTION_ID, createParameterName(environment, PARAMETER_DISTRIBUTION_ID))
+                .getStringValue();
+    }
+
+    /**
+     * Describes how CloudFront treats the requests matching a path pattern.
+     */
+    public static class PathCacheBehavior {
+        private final String pathPattern;
+        private final boolean cached;
+        private Duration defaultTtl = Duration.hours(1);
+        private Duration maxTtl = Duration.days(1);
+        private List<String> queryStringAllowList = Collections.emptyList();
+        private List<String> headerAllowList = Collections.emptyList();
+
+        private PathCacheBehavior(String pathPattern, boolean cached) {
+            Objects.requireNonNull(pathPattern, "pathPattern must not be null");
+            this.pathPattern = pathPattern;
+            this.cached = cached;
+        }
+
+        /**
+         * Caches GET, HEAD and OPTIONS responses of the matching paths at the edge.
+         *
+         * @param pathPattern the CloudFront path pattern, for example "/menu/*".
+         */
+        public static PathCacheBehavior cached(String pathPattern) {
+            return new PathCacheBehavior(pathPattern, true);
+        }
+
+        /**
+         * Passes all requests of the matching paths through to the load balancer without caching.
+         *
+         * @param pathPattern the CloudFront path pattern, for example "/orders/*".
+         */
+        public static PathCacheBehavior passThrough(String pathPattern) {
+            return new PathCacheBehavior(pathPattern, false);
+        }
+
+        /**
+         * The time a response is cached if the origin doesn't send Cache-Control or Expires headers.
+         * <p>
+         * Default: 1 hour.
+         */
+        public PathCacheBehavior withDefaultTtl(Duration defaultTtl) {
+            Objects.requireNonNull(defaultTtl);
+            this.defaultTtl = defaultTtl;
+            return this;
+        }
+
+        /**
+         * The maximum time a response is cached, regardless of the headers sent by the origin.
+         * <p>
+         * Default: 1 day.
+         */
+        public PathCacheBehavior withMaxTtl(Duration maxTtl) {
+            Objects.requireNonNull(maxTtl);
+            this.maxTtl = maxTtl;
+            return this;
+        }
+
+        /**
+         * The query strings that are part of the cache key and forwarded to the load balancer. All other
+         * query strings are dropped.
+         * <p>
+         * Default: none.
+         */
+        public PathCacheBehavior withQueryStringAllowList(List<String> queryStringAllowList) {
+            Objects.requireNonNull(queryStringAllowList);
+            this.queryStringAllowList = queryStringAllowList;
+            return this;
+        }
+
+        /**
+         * The headers that are part of the cache key and forwarded to the load balancer (for example
+         * "Accept-Language"). All other headers, and all cookies, are dropped.
+         * <p>
+         * Default: none.
+         */
+        public PathCacheBehavior withHeaderAllowList(List<String> headerAllowList) {
+            Objects.requireNonNull(headerAllowList);
+            this.headerAllowList = headerAllowList;
+            return this;
+        }
+    }
+
+    public static class EdgeCacheInputParameters {
+        private List<PathCacheBehavior> pathCacheBehaviors = new ArrayList<>(List.of(
+                PathCacheBehavior.cached("/menu/*")
+                        .withDefaultTtl(Duration.hours(6))
+                        .withMaxTtl(Duration.days(1)),
+                PathCacheBehavior.passThrough("/orders/*")
+        ));
+        private boolean originShieldEnabled = true;
+        private Optional<String> originShieldRegion = Optional.empty();
+        private Optional<String> originDomainName = Optional.empty();
+        private Optional<OriginProtocolPolicy> originProtocolPolicy = Optional.empty();
+        private ViewerProtocolPolicy viewerProtocolPolicy = ViewerProtocolPolicy.REDIRECT_TO_HTTPS;
+        private PriceClass priceClass = PriceClass.PRICE_CLASS_ALL;
+
+        /**
+         * The cache behaviors per path pattern. CloudFront evaluates them in the given order.
+         * <p>
+         * Default: "/menu/*" cached for 6 hours, "/orders/*" passed through.
+         */
+        public EdgeCacheInputParameters withPathCacheBehaviors(List<PathCacheBehavior> pathCacheBehaviors) {
+            Objects.requireNonNull(pathCacheBehaviors);
+            this.pathCacheBehaviors = pathCacheBehaviors;
+            return this;
+        }
+
+        /**
+         * Disable or enable Origin Shield, an additional caching layer that collapses requests from all edge
+         * locations before they reach the load balancer.
+         * <p>
+         * Default: true.
+         */
+        public EdgeCacheInputParameters withOriginShieldEnabled(boolean originShieldEnabled) {
+            this.originShieldEnabled = originShieldEnabled;
+            return this;
+        }
+
+        /**
+         * The region of the Origin Shield. It should be the region closest to the load balancer.
+         * <p>
+         * Default: the region of the stack.
+         */
+        public EdgeCacheInputParameters withOriginShieldRegion(String originShieldRegion) {
+            Objects.requireNonNull(originShieldRegion);
+            this.originShieldRegion = Optional.of(originShieldRegion);
+            return this;
+        }
+
+        /**
+         * A domain name of the load balancer's SSL certificate that resolves to the load balancer, for example
+         * "origin.example.com". CloudFront connects to the load balancer with this name.
+         * <p>
+         * Default: the DNS name of the load balancer, which only works if the load balancer has no certificate.
+         */
+        public EdgeCacheInputParameters withOriginDomainName(String originDomainName) {
+            Objects.requireNonNull(originDomainName);
+            this.originDomainName = Optional.of(originDomainName);
+            return this;
+        }
+
+        /**
+         * The protocol CloudFront uses to connect to the load balancer. Any other policy than HTTP_ONLY needs an
+         * origin domain name.
+         * <p>
+         * Default: HTTPS_ONLY with an origin domain name, HTTP_ONLY without.
+         */
+        public EdgeCacheInputParameters withOriginProtocolPolicy(OriginProtocolPolicy originProtocolPolicy) {
+            Objects.requireNonNull(originProtocolPolicy);
+            this.originProtocolPolicy = Optional.of(originProtocolPolicy);
+            return this;
+        }
+
+        /**
+         * The protocol policy for clients connecting to CloudFront.
+         * <p>
+         * Default: REDIRECT_TO_HTTPS.
+         */
+        public EdgeCacheInputParameters withViewerProtocolPolicy(ViewerProtocolPolicy viewerProtocolPolicy) {
+            Objects.requireNonNull(viewerProtocolPolicy);
+            this.viewerProtocolPolicy = viewerProtocolPolicy;
+            return this;
+        }
+
+        /**
+         * The edge locations the distribution is served from.
+         * <p>
+         * Default: PRICE_CLASS_ALL.
+         */
+        public EdgeCacheInputParameters withPriceClass(PriceClass priceClass) {
+            Objects.requireNonNull(priceClass);
+            this.priceClass = priceClass;
+            return this;
+        }
+    }
+
+    public static class EdgeCacheOutputParameters {
+        private final String distributionDomainName;
+        private final String distributionId;
+
+        public EdgeCacheOutputParameters(String distributionDomainName, String distributionId) {
+            this.distributionDomainName = distributionDomainName;
+            this.distributionId = distributionId;
+        }
+
+        /**
+         * The domain name of the CloudFront distribution.
+         */
+        public String getDistributionDomainName() {
+            return distributionDomainName;
+        }
+
+        /**
+         * The ID of the CloudFront distribution.
+         */
+        public String getDistributionId() {
+            return distributionId;
+        }
+    }
+}
@@ -0,0 +1,377 @@
+package com.myorg.construct;
+
+import org.jetbrains.annotations.NotNull;
+import software.amazon.awscdk.Duration;
+import software.amazon.awscdk.Environment;
+import software.amazon.awscdk.RemovalPolicy;
+import software.amazon.awscdk.services.glue.CfnDatabase;
+import software.amazon.awscdk.services.glue.CfnTable;
+import software.amazon.awscdk.services.iam.Effect;
+import software.amazon.awscdk.services.iam.PolicyStatement;
+import software.amazon.awscdk.services.iam.Role;
+import software.amazon.awscdk.services.iam.ServicePrincipal;
+import software.amazon.awscdk.services.kinesisfirehose.CfnDeliveryStream;
+import software.amazon.awscdk.services.s3.BlockPublicAccess;
+import software.amazon.awscdk.services.s3.Bucket;
+import software.amazon.awscdk.services.s3.BucketEncryption;
+import software.amazon.awscdk.services.s3.LifecycleRule;
+import software.amazon.awscdk.services.s3.StorageClass;
+import software.amazon.awscdk.services.s3.Transition;
+import software.amazon.awscdk.services.ssm.StringParameter;
+import software.constructs.Construct;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static com.myorg.constant.AWSParameter.*;
+import static java.util.Collections.singletonList;
+
+/**
+ * @author : Nguyen Van Quoc Tuan
+ * @date: 10/19/2026, Monday
+ * @description:
+ *
+ * Ingests high-volume events (for example the breadcrumbs of the users) asynchronously: the application puts them
+ * in batches into a Firehose delivery stream instead of writing each of them into DynamoDB on the request path.
+ * Firehose buffers the events, converts them from JSON into Parquet with the schema of a Glue table and writes them
+ * into an S3 bucket, partitioned by event type and day of arrival (.../event_type=<type>/dt=yyyy-MM-dd/). The Glue
+ * table maps these folders to the partition columns with partition projection, so the events are queryable with
+ * Athena as soon as they are delivered.
+ *
+ * Events are JSON objects with snake_case keys matching the columns of the table, and an "event_type" key, for
+ * example {"event_type": "page_view", "user_id": "42", "occurred_at": "2026-10-19T10:15:30.000Z"}. Keys without a
+ * column are dropped. Events that cannot be converted are written under the "errors/" prefix.
+ *
+ * Always filter on the "event_type" and "dt" columns to limit the data Athena scans.
+ *
+ * The stack exposes the following output parameters in the SSM parameter store to be used in other stacks:
+ ***** <environmentName>-<applicationName>-EventIngestion-deliveryStreamName: name of the delivery stream
+ ***** <environmentName>-<applicationName>-EventIngestion-deliveryStreamArn: ARN of the delivery stream
+ ***** The static getter methods provide a convenient access to retrieve these parameters from the parameter store for use in other stacks.
+ **/
+public class EventIngestion extends Construct {
+
+    private static final String EVENTS_PREFIX = "events/";
+    private static final String ERRORS_PREFIX = "errors/";
+
+    private final Bucket bucket;
+    private final CfnDeliveryStream deliveryStream;
+
+    public EventIngestion(
+            final Construct scope,
+            final String id,
+            final Environment awsEnvironment,
+            final ApplicationEnvironment applicationEnvironment,
+            final EventIngestionInputParameters inputParameters) {
+
+        super(scope, id);
+
+        this.bucket = Bucket.Builder.create(this, "eventsBucket")
+                .encryption(BucketEncryption.S3_MANAGED)
+                .blockPublicAccess(BlockPublicAccess.BLOCK_ALL)
+                .enforceSsl(true)
+                .lifecycleRules(singletonList(LifecycleRule.builder()
+                        .transitions(singletonList(Transition.builder()
+                                .storageClass(StorageClass.INFREQUENT_ACCESS)
+                                .transitionAfter(Duration.days(30))
+                                .build()))
+                        .expiration(Duration.days(inputParameters.retentionInDays))
+                        .build()))
+                // The bucket is the only copy of the breadcrumbs.
+                .removalPolicy(RemovalPolicy.RETAIN)
+                .build();
+
+        String databaseName = applicationEnvironment.prefix("events").toLowerCase().replaceAll("[^a-z0-9_]", "_");
+        CfnDatabase database = CfnDatabase.Builder.create(this, "eventsDatabase")
+                .catalogId(awsEnvironment.getAccount())
+                .databaseInput(CfnDatabase.DatabaseInputProperty.builder()
+                        .name(databaseName)
+                        .description("Events ingested by the " + applicationEnvironment.getApplicationName() + " application")
+                        .build())
+                .build();
+
+        String eventsLocation = String.format("s3://%s/%s%s", this.bucket.getBucketName(), EVENTS_PREFIX, inputParameters.tableName);
+
+        List<CfnTable.ColumnProperty> columns = new ArrayList<>();
+        inputParameters.columns.forEach((name, type) -> columns.add(CfnTable.ColumnProperty.builder()
+                .name(name)
+                .type(type)
+                .build()));
+
+        CfnTable table = CfnTable.Builder.create(this, "eventsTable")
+                .catalogId(awsEnvironment.getAccount())
+                .databaseName(databaseName)
+                .tableInput(CfnTable.TableInputProperty.builder()
+                        .name(inputParameters.tableName)
+                        .tableType("EXTERNAL_TABLE")
+                        .partitionKeys(List.of(
+                                CfnTable.ColumnProperty.builder().name("event_type").type("string").build(),
+                                CfnTable.ColumnProperty.builder().name("dt").type("string").build()))
+                        .parameters(Map.of(
+                                "EXTERNAL", "TRUE",
+                                "classification", "parquet",
+                                "projection.enabled", "true",
+                                // The event types are not known up front, so queries must name the event type.
+                                "projection.event_type.type", "injected",
+                                "projection.dt.type", "date",
+                                "projection.dt.format", "yyyy-MM-dd",
+                                "projection.dt.range", "NOW-" + inputParameters.retentionInDays + "DAYS,NOW",
+                                "projection.dt.interval", "1",
+                                "projection.dt.interval.unit", "DAYS",
+                                "storage.location.template", eventsLocation + "/event_type=${event_type}/dt=${dt}"))
+                        .storageDescriptor(CfnTable.StorageDescriptorProperty.builder()
+                                .columns(columns)
+                                .location(eventsLocation)
+                                .inputFormat("org.apache.hadoop.hive.ql.io.parquet.MapredParquetInputFormat")
+                                .outputFormat("org.apache.hadoop.hive.ql.io.parquet.MapredParquetOutputFormat")
+                                .serdeInfo(CfnTable.SerdeInfoProperty.builder()
+                                        .serializationLibrary("org.apache.hadoop.hive.ql.io.parquet.serde.ParquetHiveSerDe")
+                                        .parameters(Map.of("serialization.format", "1"))
+                                        .build())
+                                .build())
+                        .build())
+                .build();
+        table.addDependency(database);
+
+        Role deliveryStreamRole = Role.Builder.create(this, "deliveryStreamRole")
+                .assumedBy(ServicePrincipal.Builder.create("firehose.amazonaws.com").build())
+                .build();
+        this.bucket.grantReadWrite(deliveryStreamRole);
+        // Firehose reads the schema to convert the events into Parquet from the Glue table.
+        deliveryStreamRole.addToPolicy(PolicyStatement.Builder.create()
+                .effect(Effect.ALLOW)
+                .actions(List.of("glue:GetTable", "glue:GetTableVersion", "glue:GetTableVersions"))
+                .resources(List.of(
+                        String.format("arn:aws:glue:%s:%s:catalog", awsEnvironment.getRegion(), awsEnvironment.getAccount()),
+                        String.format("arn:aws:glue:%s:%s:database/%s", awsEnvironment.getRegion(), awsEnvironment.getAccount(), databaseName),
+                        String.format("arn:aws:glue:%s:%s:table/%s/%s", awsEnvironment.getRegion(), awsEnvironment.getAccount(), databaseName, inputParameters.tableName)))
+                .build());
+
+        this.deliveryStream = CfnDeliveryStream.Builder.create(this, "deliveryStream")
+                .deliveryStreamName(applicationEnvironment.prefix(inputParameters.tableName))
+                .deliveryStreamType("DirectPut")
+                .extendedS3DestinationConfiguration(CfnDeliveryStream.ExtendedS3DestinationConfigurationProperty.builder()
+                        .bucketArn(this.bucket.getBucketArn())
+                        .roleArn(deliveryStreamRole.getRoleArn())
+                        .prefix(EVENTS_PREFIX + inputParameters.tableName
+                                + "/event_type=!{partitionKeyFromQuery:event_type}/dt=!{timestamp:yyyy-MM-dd}/")
+                        .errorOutputPrefix(ERRORS_PREFIX + inputParameters.tableName
+                                + "/!{firehose:error-output-type}/dt=!{timestamp:yyyy-MM-dd}/")
+                        .bufferingHints(CfnDeliveryStream.BufferingHintsProperty.builder()
+                                .intervalInSeconds(inputParameters.bufferingIntervalSeconds)
+                                .sizeInMBs(inputParameters.bufferingSizeInMBs)
+                                .build())
+                        // Parquet compresses its pages itself, the objects must not be compressed again.
+                        .compressionFormat("UNCOMPRESSED")
+                        .dynamicPartitioningConfiguration(CfnDeliveryStream.DynamicPartitioningConfigurationProperty.builder()
+                                .enabled(true)
+                                .retryOptions(CfnDeliveryStream.RetryOptionsProperty.builder()
+                                        .durationInSeconds(300)
+                                        .build())
+                                .build())
+                        .processingConfiguration(CfnDeliveryStream.ProcessingConfigurationProperty.builder()
+                                .enabled(true)
+                                .processors(singletonList(CfnDeliveryStream.ProcessorProperty.builder()
+                                        .type("MetadataExtraction")
+                                        .parameters(List.of(
+                                                processorParameter("MetadataExtractionQuery", "{event_type: .event_type}"),
+                                                processorParameter("JsonParsingEngine", "JQ-1.6")))
+                                        .build()))
+                                .build())
+                        .dataFormatConversionConfiguration(CfnDeliveryStream.DataFormatConversionConfigurationProperty.builder()
+                                .enabled(true)
+                                .schemaConfiguration(CfnDeliveryStream.SchemaConfigurationProperty.builder()
+                                        .catalogId(awsEnvironment.getAccount())
+                                        .region(awsEnvironment.getRegion())
+                                        .databaseName(databaseName)
+                                        .tableName(inputParameters.tableName)
+                                        .roleArn(deliveryStreamRole.getRoleArn())
+                                        .versionId("LATEST")
+                                        .build())
+                                .inputFormatConfiguration(CfnDeliveryStream.InputFormatConfigurationProperty.builder()
+                                        .deserializer(CfnDeliveryStream.DeserializerProperty.builder()
+                                                .hiveJsonSerDe(CfnDeliveryStream.HiveJsonSerDeProperty.builder()
+                                                        .timestampFormats(List.of("yyyy-MM-dd'T'HH:mm:ss.SSSXXX", "yyyy-MM-dd'T'HH:mm:ssXXX", "millis"))
+                                                        .build())
+                                                .build())
+                                        .build())
+                                .outputFormatConfiguration(CfnDeliveryStream.OutputFormatConfigurationProperty.builder()
+                                        .serializer(CfnDeliveryStream.SerializerProperty.builder()
+                                                .parquetSerDe(CfnDeliveryStream.ParquetSerDeProperty.builder()
+                                                        .compression("SNAPPY")
+                                                        .build())
+                                                .build())
+                                        .build())
+                                .build())
+                        .build())
+                .build();
+        // Firehose checks its access to the bucket and the Glue table when the delivery stream is created.
+        this.deliveryStream.getNode().addDependency(deliveryStreamRole);
+        this.deliveryStream.addDependency(table);
+
+        StringParameter deliveryStreamName = StringParameter.Builder.create(this, "deliveryStreamName")
+                .parameterName(createParameterName(applicationEnvironment, PARAMETER_DELIVERY_STREAM_NAME))
+                .stringValue(this.deliveryStream.getRef())
+                .build();
+
+        StringParameter deliveryStreamArn = StringParameter.Builder.create(this, "deliveryStreamArn")
+                .parameterName(createParameterName(applicationEnvironment, PARAMETER_DELIVERY_STREAM_ARN))
+                .stringValue(this.deliveryStream.getAttrArn())
+                .build();
+
+        applicationEnvironment.tag(this);
+    }
+
+    public Bucket getBucket() {
+        return bucket;
+    }
+
+    public CfnDeliveryStream getDeliveryStream() {
+        return deliveryStream;
+    }
+
+    private static CfnDeliveryStream.ProcessorParameterProperty processorParameter(String name, String value) {
+        return CfnDeliveryStream.ProcessorParameterProperty.builder()
+                .parameterName(name)
+                .parameterValue(value)
+                .build();
+    }
+
+    @NotNull
+    private static String createParameterName(ApplicationEnvironment applicationEnvironment, String parameterName) {
+        return applicationEnvironment.getEnvironmentName() + "-" + applicationEnvironment.getApplicationName() + "-EventIngestion-" + parameterName;
+    }
+
+    /**
+     * Collects the output parameters of an already deployed {@link EventIngestion} construct from the parameter store.
+     * This requires that a {@link EventIngestion} construct has been deployed previously.
+     *
+     * @param scope       the construct in which we need the output parameters
+     * @param environment the environment for which to load the output parameters. The deployed {@link EventIngestion}
+     *                    construct must have been deployed into this environment.
+     */
+    public static EventIngestionOutputParameters getOutputParametersFromParameterStore(Construct scope, ApplicationEnvironment environment) {
+        return new EventIngestionOutputParameters(
+                getParameter(scope, environment, PARAMETER_DELIVERY_STREAM_NAME),
+                getParameter(scope, environment, PARAMETER_DELIVERY_STREAM_ARN));
+    }
+
+    private static String getParameter(Construct scope, ApplicationEnvironment environment, String parameterName) {
+        return StringParameter.fromStringParameterName(scope, "eventIngestion-" + parameterName, createParameterName(environment, parameterName))
+                .getStringValue();
+    }
+
+    public static class EventIngestionInputParameters {
+        private String tableName = "breadcrumbs";
+        private Map<String, String> columns = defaultColumns();
+        private int bufferingIntervalSeconds = 300;
+        private int bufferingSizeInMBs = 128;
+        private int retentionInDays = 365;
+
+        private static Map<String, String> defaultColumns() {
+            Map<String, String> columns = new LinkedHashMap<>();
+            columns.put("event_id", "string");
+            columns.put("user_id", "string");
+            columns.put("session_id", "string");
+            columns.put("path", "string");
+            columns.put("occurred_at", "timestamp");
+            columns.put("attributes", "map<string,string>");
+            return columns;
+        }
+
+        /**
+         * The name of the Glue table, which is also the name of the delivery stream (prefixed with the application
+         * environment) and of the S3 prefix of the events.
+         * <p>
+         * Default: "breadcrumbs".
+         */
+        public EventIngestionInputParameters withTableName(String tableName) {
+            Objects.requireNonNull(tableName);
+            this.tableName = tableName;
+            return this;
+        }
+
+        /**
+         * The columns of the Glue table (name -> Hive type), which Firehose converts the events into Parquet with.
+         * "event_type" and "dt" are partition columns and must not be declared here.
+         * <p>
+         * Default: event_id, user_id, session_id, path (string), occurred_at (timestamp), attributes (map&lt;string,string&gt;).
+         */
+        public EventIngestionInputParameters withColumns(Map<String, String> columns) {
+            Objects.requireNonNull(columns);
+            if (columns.containsKey("event_type") || columns.containsKey("dt")) {
+                throw new IllegalArgumentException("event_type and dt are partition columns and must not be declared as columns");
+            }
+            this.columns = columns;
+            return this;
+        }
+
+        /**
+         * How long Firehose buffers the events of a partition before it writes them into S3. Longer intervals write
+         * fewer and larger objects, which are cheaper to store and faster to query.
+         * <p>
+         * Default: 300.
+         */
+        public EventIngestionInputParameters withBufferingIntervalSeconds(int bufferingIntervalSeconds) {
+            if (bufferingIntervalSeconds < 60 || bufferingIntervalSeconds > 900) {
+                throw new IllegalArgumentException("bufferingIntervalSeconds must be between 60 and 900 but was " + bufferingIntervalSeconds);
+            }
+            this.bufferingIntervalSeconds = bufferingIntervalSeconds;
+            return this;
+        }
+
+        /**
+         * How much data Firehose buffers per partition before it writes them into S3. The Parquet conversion needs
+         * at least 64 MB.
+         * <p>
+         * Default: 128.
+         */
+        public EventIngestionInputParameters withBufferingSizeInMBs(int bufferingSizeInMBs) {
+            if (bufferingSizeInMBs < 64 || bufferingSizeInMBs > 128) {
+                throw new IllegalArgumentException("bufferingSizeInMBs must be between 64 and 128 but was " + bufferingSizeInMBs);
+            }
+            this.bufferingSizeInMBs = bufferingSizeInMBs;
+            return this;
+        }
+
+        /**
+         * How long the events are kept in S3. They move to the Infrequent Access storage class after 30 days.
+         * <p>
+         * Default: 365.
+         */
+        public EventIngestionInputParameters withRetentionInDays(int retentionInDays) {
+            if (retentionInDays < 31) {
+                throw new IllegalArgumentException("retentionInDays must be at least 31 but was " + retentionInDays);
+            }
+            this.retentionInDays = retentionInDays;
+            return this;
+        }
+    }
+
+    public static class EventIngestionOutputParameters {
+        private final String deliveryStreamName;
+        private final String deliveryStreamArn;
+
+        public EventIngestionOutputParameters(String deliveryStreamName, String deliveryStreamArn) {
+            this.deliveryStreamName = deliveryStreamName;
+            this.deliveryStreamArn = deliveryStreamArn;
+        }
+
+        /**
+         * The name of the delivery stream to put the events into.
+         */
+        public String getDeliveryStreamName() {
+            return deliveryStreamName;
+        }
+
+        /**
+         * The ARN of the delivery stream.
+         */
+        public String getDeliveryStreamArn() {
+            return deliveryStreamArn;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.myorg.construct;
+
+import software.amazon.awscdk.Environment;
+import software.amazon.awscdk.services.route53.CfnHealthCheck;
+import software.amazon.awscdk.services.route53.CfnRecordSet;
+import software.constructs.Construct;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * @author : Nguyen Van Quoc Tuan
+ * @date: 10/19/2026, Monday
+ * @description:
+ *
+ * Adds the load balancer of the {@link Network} construct in the region of this construct to a latency-based
+ * Route 53 record. Deploying this construct into several regions with the same domain name makes Route 53 answer
+ * with the healthy load balancer that has the lowest latency for the client.
+ *
+ * The following parameters need to exist in the SSM parameter store for this stack to successfully deploy:
+ *****<environmentName>-Network-loadBalancerDnsName: DNS name of the regional load balancer.
+ *****<environmentName>-Network-loadBalancerCanonicalHostedZoneId: hosted zone ID of the regional load balancer.
+ **/
+public class LatencyRoutedDomain extends Construct {
+
+    public LatencyRoutedDomain(
+            final Construct scope,
+            final String id,
+            final Environment awsEnvironment,
+            final ApplicationEnvironment applicationEnvironment,
+            final LatencyRoutedDomainInputParameters inputParameters) {
+
+        super(scope, id);
+
+        Network.NetworkOutputParameters networkOutputParameters = Network
+                .getOutputParametersFromParameterStore(this, applicationEnvironment.getEnvironmentName());
+
+        CfnHealthCheck healthCheck = CfnHealthCheck.Builder.create(this, "healthCheck")
+                .healthCheckConfig(CfnHealthCheck.HealthCheckConfigProperty.builder()
+                        .type("HTTP")
+                        .fullyQualifiedDomainName(networkOutputParameters.getLoadBalancerDnsName())
+                        .port(80)
+                        .resourcePath(inputParameters.healthCheckPath)
+                        .requestInterval(inputParameters.healthCheckIntervalSeconds)
+                        .failureThreshold(inputParameters.healthCheckFailureThreshold)
+                        .build())
+                .healthCheckTags(List.of(CfnHealthCheck.HealthCheckTagProperty.builder()
+                        .key("Name")
+                        .value(applicationEnvironment.prefix(awsEnvironment.getRegion() + "-healthCheck"))
+                        .build()))
+                .build();
+
+        CfnRecordSet recordSet = CfnRecordSet.Builder.create(this, "latencyRecord")
+                .hostedZoneId(inputParameters.hostedZoneId)
+                .name(inputParameters.domainName)
+                .type("A")
+                .region(awsEnvironment.getRegion())
+                .setIdentifier(applicationEnvironment.prefix(awsEnvironment.getRegion()))
+                .healthCheckId(healthCheck.getAttrHealthCheckId())
+                .aliasTarget(CfnRecordSet.AliasTargetProperty.builder()
+                        .dnsName(networkOutputParameters.getLoadBalancerDnsName())
+                        .hostedZoneId(networkOutputParameters.getLoadBalancerCanonicalHostedZoneId())
+                        .evaluateTargetHealth(true)
+                        .build())
+                .build();
+
+        applicationEnvironment.tag(this);
+    }
+
+    public static class LatencyRoutedDomainInputParameters {
+        private final String hostedZoneId;
+        private final String domainName;
+        private String healthCheckPath = "/actuator";
+        private int healthCheckIntervalSeconds = 30;
+        private int healthCheckFailureThreshold = 3;
+
+        /**
+         * @param hostedZoneId the ID of the Route 53 hosted zone that contains the domain.
+         * @param domainName   the domain name that routes to the closest region, for example "api.example.com".
+         */
+        public LatencyRoutedDomainInputParameters(String hostedZoneId, String domainName) {
+            Objects.requireNonNull(hostedZoneId, "hostedZoneId must not be null");
+            Objects.requireNonNull(domainName, "domainName must not be null");
+            this.hostedZoneId = hostedZoneId;
+            this.domainName = domainName;
+        }
+
+        /**
+         * The path Route 53 checks on the load balancer to decide whether the region is healthy.
+         * <p>
+         * Default: "/actuator".
+         */
+        public LatencyRoutedDomainInputParameters withHealthCheckPath(String healthCheckPath) {
+            Objects.requireNonNull(healthCheckPath);
+            this.healthCheckPath = healthCheckPath;
+            return this;
+        }
+
+        /**
+         * The interval between two health checks. Route 53 only supports 10 and 30 seconds.
+         * <p>
+         * Default: 30.
+         */
+        public LatencyRoutedDomainInputParameters withHealthCheckIntervalSeconds(int healthCheckIntervalSeconds) {
+            if (healthCheckIntervalSeconds != 10 && healthCheckIntervalSeconds != 30) {
+                throw new IllegalArgumentException("healthCheckIntervalSeconds must be 10 or 30 but was " + healthCheckIntervalSeconds);
+            }
+            this.healthCheckIntervalSeconds = healthCheckIntervalSeconds;
+            return this;
+        }
+
+        /**
+         * The number of consecutive failed health checks after which the region is taken out of the routing.
+         * <p>
+         * Default: 3.
+         */
+        public LatencyRoutedDomainInputParameters withHealthCheckFailureThreshold(int healthCheckFailureThreshold) {
+            this.healthCheckFailureThreshold = healthCheckFailureThreshold;
+            return this;
+        }
+    }
+}
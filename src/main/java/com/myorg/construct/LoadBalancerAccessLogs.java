@@ -0,0 +1,294 @@
+package com.myorg.construct;
+
+import software.amazon.awscdk.Duration;
+import software.amazon.awscdk.Environment;
+import software.amazon.awscdk.RemovalPolicy;
+import software.amazon.awscdk.services.athena.CfnNamedQuery;
+import software.amazon.awscdk.services.athena.CfnWorkGroup;
+import software.amazon.awscdk.services.elasticloadbalancingv2.ApplicationLoadBalancer;
+import software.amazon.awscdk.services.glue.CfnDatabase;
+import software.amazon.awscdk.services.glue.CfnTable;
+import software.amazon.awscdk.services.s3.BlockPublicAccess;
+import software.amazon.awscdk.services.s3.Bucket;
+import software.amazon.awscdk.services.s3.BucketEncryption;
+import software.amazon.awscdk.services.s3.LifecycleRule;
+import software.amazon.awscdk.services.s3.StorageClass;
+import software.amazon.awscdk.services.s3.Transition;
+import software.constructs.Construct;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.singletonList;
+
+/**
+ * @author : Nguyen Van Quoc Tuan
+ * @date: 10/19/2026, Monday
+ * @description:
+ *
+ * Writes the access logs of the load balancer into an S3 bucket and makes them queryable with Athena. The load
+ * balancer partitions its logs by day (.../AWSLogs/<account>/elasticloadbalancing/<region>/yyyy/MM/dd/), the Glue
+ * table maps these folders to the partition column "day" with partition projection, so new days are queryable
+ * without adding partitions. The Athena workgroup comes with saved queries for the slowest paths, the p99 latency
+ * per target, the 5xx responses per path, and the paths whose latency increased compared to the day before.
+ *
+ * Always filter on the "day" column (format yyyy/MM/dd) to limit the data Athena scans.
+ **/
+public class LoadBalancerAccessLogs extends Construct {
+
+    private static final String LOG_PREFIX = "alb";
+    private static final String QUERY_RESULTS_PREFIX = "athena-results/";
+    private static final String TABLE_NAME = "alb_access_logs";
+
+    // The regular expression AWS documents for parsing Application Load Balancer access logs, one group per column.
+    private static final String LOG_LINE_REGEX = "([^ ]*) ([^ ]*) ([^ ]*) ([^ ]*):([0-9]*) ([^ ]*)[:-]([0-9]*) ([-.0-9]*) "
+            + "([-.0-9]*) ([-.0-9]*) (|[-0-9]*) (-|[-0-9]*) ([-0-9]*) ([-0-9]*) \"([^ ]*) (.*) (- |[^ ]*)\" \"([^\"]*)\" "
+            + "([A-Z0-9-_]+) ([A-Za-z0-9.-]*) ([^ ]*) \"([^\"]*)\" \"([^\"]*)\" \"([^\"]*)\" ([-.0-9]*) ([^ ]*) "
+            + "\"([^\"]*)\" \"([^\"]*)\" \"([^ ]*)\" \"([^\\s]+?)\" \"([^\\s]+)\" \"([^ ]*)\" \"([^ ]*)\" ?([^ ]*)?";
+
+    private static final Map<String, String> COLUMNS = new LinkedHashMap<>();
+
+    static {
+        COLUMNS.put("type", "string");
+        COLUMNS.put("time", "string");
+        COLUMNS.put("elb", "string");
+        COLUMNS.put("client_ip", "string");
+        COLUMNS.put("client_port", "int");
+        COLUMNS.put("target_ip", "string");
+        COLUMNS.put("target_port", "int");
+        COLUMNS.put("request_processing_time", "double");
+        COLUMNS.put("target_processing_time", "double");
+        COLUMNS.put("response_processing_time", "double");
+        COLUMNS.put("elb_status_code", "int");
+        COLUMNS.put("target_status_code", "string");
+        COLUMNS.put("received_bytes", "bigint");
+        COLUMNS.put("sent_bytes", "bigint");
+        COLUMNS.put("request_verb", "string");
+        COLUMNS.put("request_url", "string");
+        COLUMNS.put("request_proto", "string");
+        COLUMNS.put("user_agent", "string");
+        COLUMNS.put("ssl_cipher", "string");
+        COLUMNS.put("ssl_protocol", "string");
+        COLUMNS.put("target_group_arn", "string");
+        COLUMNS.put("trace_id", "string");
+        COLUMNS.put("domain_name", "string");
+        COLUMNS.put("chosen_cert_arn", "string");
+        COLUMNS.put("matched_rule_priority", "string");
+        COLUMNS.put("request_creation_time", "string");
+        COLUMNS.put("actions_executed", "string");
+        COLUMNS.put("redirect_url", "string");
+        COLUMNS.put("lambda_error_reason", "string");
+        COLUMNS.put("target_port_list", "string");
+        COLUMNS.put("target_status_code_list", "string");
+        COLUMNS.put("classification", "string");
+        COLUMNS.put("classification_reason", "string");
+        COLUMNS.put("conn_trace_id", "string");
+    }
+
+    private final Bucket bucket;
+    private final CfnWorkGroup workGroup;
+
+    public LoadBalancerAccessLogs(
+            final Construct scope,
+            final String id,
+            final Environment awsEnvironment,
+            final String environmentName,
+            final ApplicationLoadBalancer loadBalancer,
+            final int retentionInDays) {
+
+        super(scope, id);
+
+        this.bucket = Bucket.Builder.create(this, "accessLogsBucket")
+                // Load balancer access logs only support SSE-S3 encryption.
+                .encryption(BucketEncryption.S3_MANAGED)
+                .blockPublicAccess(BlockPublicAccess.BLOCK_ALL)
+                .enforceSsl(true)
+                .lifecycleRules(List.of(
+                        LifecycleRule.builder()
+                                .prefix(LOG_PREFIX + "/")
+                                // S3 only accepts an expiration after the transition.
+                                .transitions(retentionInDays > 30
+                                        ? singletonList(Transition.builder()
+                                                .storageClass(StorageClass.INFREQUENT_ACCESS)
+                                                .transitionAfter(Duration.days(30))
+                                                .build())
+                                        : null)
+                                .expiration(Duration.days(retentionInDays))
+                                .build(),
+                        LifecycleRule.builder()
+                                .prefix(QUERY_RESULTS_PREFIX)
+                                .expiration(Duration.days(7))
+                                .build()))
+                .removalPolicy(RemovalPolicy.DESTROY)
+                .autoDeleteObjects(true)
+                .build();
+
+        loadBalancer.logAccessLogs(this.bucket, LOG_PREFIX);
+
+        String databaseName = (environmentName + "_access_logs").toLowerCase().replaceAll("[^a-z0-9_]", "_");
+        CfnDatabase database = CfnDatabase.Builder.create(this, "accessLogsDatabase")
+                .catalogId(awsEnvironment.getAccount())
+                .databaseInput(CfnDatabase.DatabaseInputProperty.builder()
+                        .name(databaseName)
+                        .description("Access logs of the " + environmentName + " load balancer")
+                        .build())
+                .build();
+
+        String logLocation = String.format("s3://%s/%s/AWSLogs/%s/elasticloadbalancing/%s",
+                this.bucket.getBucketName(), LOG_PREFIX, awsEnvironment.getAccount(), awsEnvironment.getRegion());
+
+        List<CfnTable.ColumnProperty> columns = new ArrayList<>();
+        COLUMNS.forEach((name, type) -> columns.add(CfnTable.ColumnProperty.builder()
+                .name(name)
+                .type(type)
+                .build()));
+
+        CfnTable table = CfnTable.Builder.create(this, "accessLogsTable")
+                .catalogId(awsEnvironment.getAccount())
+                .databaseName(databaseName)
+                .tableInput(CfnTable.TableInputProperty.builder()
+                        .name(TABLE_NAME)
+                        .tableType("EXTERNAL_TABLE")
+                        .partitionKeys(singletonList(CfnTable.ColumnProperty.builder()
+                                .name("day")
+                                .type("string")
+                                .build()))
+                        .parameters(Map.of(
+                                "EXTERNAL", "TRUE",
+                                "projection.enabled", "true",
+                                "projection.day.type", "date",
+                                "projection.day.format", "yyyy/MM/dd",
+                                "projection.day.range", "NOW-" + retentionInDays + "DAYS,NOW",
+                                "projection.day.interval", "1",
+                                "projection.day.interval.unit", "DAYS",
+                                "storage.location.template", logLocation + "/${day}"))
+                        .storageDescriptor(CfnTable.StorageDescriptorProperty.builder()
+                                .columns(columns)
+                                .location(logLocation)
+                                .inputFormat("org.apache.hadoop.mapred.TextInputFormat")
+                                .outputFormat("org.apache.hadoop.hive.ql.io.HiveIgnoreKeyTextOutputFormat")
+                                .serdeInfo(CfnTable.SerdeInfoProperty.builder()
+                                        .serializationLibrary("org.apache.hadoop.hive.serde2.RegexSerDe")
+                                        .parameters(Map.of(
+                                                "serialization.format", "1",
+                                                "input.regex", LOG_LINE_REGEX))
+                                        .build())
+                                .build())
+                        .build())
+                .build();
+        table.addDependency(database);
+
+        this.workGroup = CfnWorkGroup.Builder.create(this, "accessLogsWorkGroup")
+                .name(environmentName + "-access-logs")
+                .description("Queries on the access logs of the " + environmentName + " load balancer")
+                .recursiveDeleteOption(true)
+                .workGroupConfiguration(CfnWorkGroup.WorkGroupConfigurationProperty.builder()
+                        .enforceWorkGroupConfiguration(true)
+                        .publishCloudWatchMetricsEnabled(true)
+                        .bytesScannedCutoffPerQuery(10L * 1024 * 1024 * 1024)
+                        .resultConfiguration(CfnWorkGroup.ResultConfigurationProperty.builder()
+                                .outputLocation(String.format("s3://%s/%s", this.bucket.getBucketName(), QUERY_RESULTS_PREFIX))
+                                .encryptionConfiguration(CfnWorkGroup.EncryptionConfigurationProperty.builder()
+                                        .encryptionOption("SSE_S3")
+                                        .build())
+                                .build())
+                        .build())
+                .build();
+
+        createNamedQuery(databaseName, "slowestPaths", "Slowest paths",
+                "The paths with the highest p99 target processing time during the last 24 hours.",
+                """
+                        SELECT request_verb,
+                               url_extract_path(request_url) AS path,
+                               count(*) AS requests,
+                               approx_percentile(target_processing_time, 0.5) AS p50_seconds,
+                               approx_percentile(target_processing_time, 0.99) AS p99_seconds,
+                               max(target_processing_time) AS max_seconds
+                        FROM %s
+                        WHERE day >= date_format(current_date - interval '1' day, '%%Y/%%m/%%d')
+                          AND parse_iso8601_timestamp(time) > current_timestamp - interval '24' hour
+                          AND target_processing_time >= 0
+                        GROUP BY 1, 2
+                        ORDER BY p99_seconds DESC
+                        LIMIT 25;""");
+
+        createNamedQuery(databaseName, "p99ByTarget", "p99 by target",
+                "The p99 request, target and response processing times per target during the last 24 hours.",
+                """
+                        SELECT target_group_arn,
+                               target_ip,
+                               count(*) AS requests,
+                               approx_percentile(request_processing_time, 0.99) AS p99_request_seconds,
+                               approx_percentile(target_processing_time, 0.99) AS p99_target_seconds,
+                               approx_percentile(response_processing_time, 0.99) AS p99_response_seconds
+                        FROM %s
+                        WHERE day >= date_format(current_date - interval '1' day, '%%Y/%%m/%%d')
+                          AND parse_iso8601_timestamp(time) > current_timestamp - interval '24' hour
+                          AND target_processing_time >= 0
+                        GROUP BY 1, 2
+                        ORDER BY p99_target_seconds DESC;""");
+
+        createNamedQuery(databaseName, "serverErrorsByPath", "5xx by path",
+                "The number of 5xx responses per path and status code during the last 24 hours. A target_status_code "
+                        + "of '-' means the load balancer answered itself, for example because no target was available.",
+                """
+                        SELECT request_verb,
+                               url_extract_path(request_url) AS path,
+                               elb_status_code,
+                               target_status_code,
+                               count(*) AS responses
+                        FROM %s
+                        WHERE day >= date_format(current_date - interval '1' day, '%%Y/%%m/%%d')
+                          AND parse_iso8601_timestamp(time) > current_timestamp - interval '24' hour
+                          AND elb_status_code >= 500
+                        GROUP BY 1, 2, 3, 4
+                        ORDER BY responses DESC;""");
+
+        createNamedQuery(databaseName, "latencyRegressionByPath", "Which endpoint got slower",
+                "Compares the p99 target processing time per path of the last 24 hours with the 24 hours before.",
+                """
+                        WITH requests AS (
+                            SELECT request_verb,
+                                   url_extract_path(request_url) AS path,
+                                   target_processing_time,
+                                   parse_iso8601_timestamp(time) > current_timestamp - interval '24' hour AS last_day
+                            FROM %s
+                            WHERE day >= date_format(current_date - interval '2' day, '%%Y/%%m/%%d')
+                              AND parse_iso8601_timestamp(time) > current_timestamp - interval '48' hour
+                              AND target_processing_time >= 0
+                        )
+                        SELECT request_verb,
+                               path,
+                               count_if(last_day) AS requests,
+                               approx_percentile(target_processing_time, 0.99) FILTER (WHERE NOT last_day) AS p99_day_before_seconds,
+                               approx_percentile(target_processing_time, 0.99) FILTER (WHERE last_day) AS p99_last_day_seconds,
+                               approx_percentile(target_processing_time, 0.99) FILTER (WHERE last_day)
+                                   - approx_percentile(target_processing_time, 0.99) FILTER (WHERE NOT last_day) AS p99_increase_seconds
+                        FROM requests
+                        GROUP BY 1, 2
+                        HAVING count_if(last_day) >= 100
+                        ORDER BY p99_increase_seconds DESC
+                        LIMIT 25;""");
+    }
+
+    public Bucket getBucket() {
+        return bucket;
+    }
+
+    public CfnWorkGroup getWorkGroup() {
+        return workGroup;
+    }
+
+    private void createNamedQuery(String databaseName, String id, String name, String description, String query) {
+        CfnNamedQuery namedQuery = CfnNamedQuery.Builder.create(this, id)
+                .name(name)
+                .description(description)
+                .database(databaseName)
+                .workGroup(this.workGroup.getName())
+                .queryString(String.format(query, TABLE_NAME))
+                .build();
+        namedQuery.addDependency(this.workGroup);
+    }
+}
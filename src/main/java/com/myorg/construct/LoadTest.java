@@ -0,0 +1,401 @@
+package com.myorg.construct;
+
+import software.amazon.awscdk.Duration;
+import software.amazon.awscdk.Environment;
+import software.amazon.awscdk.RemovalPolicy;
+import software.amazon.awscdk.customresources.AwsCustomResource;
+import software.amazon.awscdk.customresources.AwsCustomResourcePolicy;
+import software.amazon.awscdk.customresources.AwsSdkCall;
+import software.amazon.awscdk.customresources.PhysicalResourceId;
+import software.amazon.awscdk.services.ec2.CfnSecurityGroup;
+import software.amazon.awscdk.services.ec2.CfnSecurityGroupEgress;
+import software.amazon.awscdk.services.ecs.CfnTaskDefinition;
+import software.amazon.awscdk.services.iam.Effect;
+import software.amazon.awscdk.services.iam.PolicyStatement;
+import software.amazon.awscdk.services.iam.Role;
+import software.amazon.awscdk.services.iam.ServicePrincipal;
+import software.amazon.awscdk.services.logs.LogGroup;
+import software.amazon.awscdk.services.logs.RetentionDays;
+import software.amazon.awscdk.services.s3.BlockPublicAccess;
+import software.amazon.awscdk.services.s3.Bucket;
+import software.amazon.awscdk.services.s3.BucketEncryption;
+import software.amazon.awscdk.services.s3.LifecycleRule;
+import software.amazon.awscdk.services.s3.assets.Asset;
+import software.constructs.Construct;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static java.util.Collections.singletonList;
+
+/**
+ * @author : Nguyen Van Quoc Tuan
+ * @date: 10/19/2026, Monday
+ * @description:
+ *
+ * Runs a distributed load test against the load balancer of the {@link Network} construct. Every deployment starts
+ * <code>taskCount</code> Fargate tasks that each execute the bundled k6 scenario with their share of the target RPS
+ * and upload the k6 results to an S3 bucket under <code>&lt;runId&gt;/&lt;task hostname&gt;/</code>.
+ *
+ * The following parameters need to exist in the SSM parameter store for this stack to successfully deploy:
+ *****<environmentName>-Network-vpcId: ID of the VPC to deploy the load generators into.
+ *****<environmentName>-Network-publicSubnetIds: IDs of the public subnets the load generators run in.
+ *****<environmentName>-Network-ecsClusterName: name of the ECS cluster the load generators run in.
+ *****<environmentName>-Network-loadBalancerDnsName: DNS name of the load balancer under test.
+ **/
+public class LoadTest extends Construct {
+
+    private static final String VOLUME_NAME = "loadtest";
+    private static final String VOLUME_PATH = "/loadtest";
+    // Pinned, so repeated runs use the same tools and stay comparable.
+    private static final String AWS_CLI_IMAGE = "amazon/aws-cli:2.15.0";
+
+    private final Bucket resultsBucket;
+
+    public LoadTest(
+            final Construct scope,
+            final String id,
+            final Environment environment,
+            final ApplicationEnvironment applicationEnvironment,
+            final LoadTestInputParameters loadTestInputParameters
+    ) {
+        super(scope, id);
+
+        if (loadTestInputParameters.targetRps < loadTestInputParameters.taskCount) {
+            throw new IllegalArgumentException("targetRps (" + loadTestInputParameters.targetRps
+                    + ") must be at least taskCount (" + loadTestInputParameters.taskCount + ")");
+        }
+
+        Network.NetworkOutputParameters networkOutputParameters = Network
+                .getOutputParametersFromParameterStore(this, applicationEnvironment.getEnvironmentName());
+
+        // The scenario is bundled as a file asset, so synth works offline and the tasks download it from the asset bucket.
+        Asset scenario = Asset.Builder.create(this, "scenario")
+                .path(loadTestInputParameters.scenarioPath)
+                .build();
+
+        this.resultsBucket = Bucket.Builder.create(this, "resultsBucket")
+                .encryption(BucketEncryption.S3_MANAGED)
+                .blockPublicAccess(BlockPublicAccess.BLOCK_ALL)
+                .enforceSsl(true)
+                .lifecycleRules(singletonList(LifecycleRule.builder()
+                        .expiration(Duration.days(loadTestInputParameters.resultRetentionInDays))
+                        .build()))
+                .removalPolicy(RemovalPolicy.DESTROY)
+                .autoDeleteObjects(true)
+                .build();
+
+        LogGroup logGroup = LogGroup.Builder.create(this, "loadTestLogGroup")
+                .logGroupName(applicationEnvironment.prefix("loadtest-logs"))
+                .retention(RetentionDays.ONE_WEEK)
+                .removalPolicy(RemovalPolicy.DESTROY)
+                .build();
+
+        Role executionRole = Role.Builder.create(this, "loadTestExecutionRole")
+                .assumedBy(ServicePrincipal.Builder.create("ecs-tasks.amazonaws.com").build())
+                .path("/")
+                .build();
+        logGroup.grantWrite(executionRole);
+
+        Role taskRole = Role.Builder.create(this, "loadTestTaskRole")
+                .assumedBy(ServicePrincipal.Builder.create("ecs-tasks.amazonaws.com").build())
+                .path("/")
+                .build();
+        scenario.grantRead(taskRole);
+        resultsBucket.grantWrite(taskRole);
+
+        String targetUrl = "http://" + networkOutputParameters.getLoadBalancerDnsName();
+        // The remainder of the division is spread over the first tasks, one request per second each.
+        int rpsPerTask = loadTestInputParameters.targetRps / loadTestInputParameters.taskCount;
+        int tasksWithExtraRps = loadTestInputParameters.targetRps % loadTestInputParameters.taskCount;
+
+        CfnTaskDefinition.MountPointProperty mountPoint = CfnTaskDefinition.MountPointProperty.builder()
+                .sourceVolume(VOLUME_NAME)
+                .containerPath(VOLUME_PATH)
+                .build();
+
+        // Fetches the scenario into the shared volume before the load generator starts.
+        CfnTaskDefinition.ContainerDefinitionProperty scenarioDownloader = CfnTaskDefinition.ContainerDefinitionProperty.builder()
+                .name("scenario-downloader")
+                .image(AWS_CLI_IMAGE)
+                .essential(false)
+                .entryPoint(List.of("sh", "-c"))
+                .command(singletonList(String.format(
+                        "mkdir -p %1$s/results && chmod 777 %1$s/results && aws s3 cp s3://%2$s/%3$s %1$s/scenario.js",
+                        VOLUME_PATH, scenario.getS3BucketName(), scenario.getS3ObjectKey())))
+                .mountPoints(singletonList(mountPoint))
+                .logConfiguration(logConfiguration(environment, logGroup, applicationEnvironment, "downloader"))
+                .build();
+
+        CfnTaskDefinition.ContainerDefinitionProperty loadGenerator = CfnTaskDefinition.ContainerDefinitionProperty.builder()
+                .name("load-generator")
+                .image(loadTestInputParameters.loadGeneratorImage)
+                .essential(false)
+                .command(List.of(
+                        "run",
+                        "--summary-export", VOLUME_PATH + "/results/summary.json",
+                        "--out", "csv=" + VOLUME_PATH + "/results/metrics.csv.gz",
+                        VOLUME_PATH + "/scenario.js"))
+                .environment(List.of(
+                        keyValuePair("TARGET_URL", targetUrl),
+                        keyValuePair("TARGET_RPS", String.valueOf(rpsPerTask)),
+                        keyValuePair("DURATION", loadTestInputParameters.duration)))
+                .mountPoints(singletonList(mountPoint))
+                .dependsOn(singletonList(CfnTaskDefinition.ContainerDependencyProperty.builder()
+                        .containerName("scenario-downloader")
+                        .condition("SUCCESS")
+                        .build()))
+                .logConfiguration(logConfiguration(environment, logGroup, applicationEnvironment, "generator"))
+                .build();
+
+        // Uploads whatever the load generator produced, even if its thresholds failed.
+        CfnTaskDefinition.ContainerDefinitionProperty resultUploader = CfnTaskDefinition.ContainerDefinitionProperty.builder()
+                .name("result-uploader")
+                .image(AWS_CLI_IMAGE)
+                .essential(true)
+                .entryPoint(List.of("sh", "-c"))
+                .command(singletonList(String.format(
+                        "aws s3 cp %s/results s3://%s/%s/$HOSTNAME/ --recursive",
+                        VOLUME_PATH, resultsBucket.getBucketName(), loadTestInputParameters.runId)))
+                .mountPoints(singletonList(mountPoint))
+                .dependsOn(singletonList(CfnTaskDefinition.ContainerDependencyProperty.builder()
+                        .containerName("load-generator")
+                        .condition("COMPLETE")
+                        .build()))
+                .logConfiguration(logConfiguration(environment, logGroup, applicationEnvironment, "uploader"))
+                .build();
+
+        CfnTaskDefinition taskDefinition = CfnTaskDefinition.Builder.create(this, "loadTestTaskDefinition")
+                .family(applicationEnvironment.prefix("loadtest"))
+                .cpu(String.valueOf(loadTestInputParameters.cpu))
+                .memory(String.valueOf(loadTestInputParameters.memory))
+                .networkMode("awsvpc")
+                .requiresCompatibilities(singletonList("FARGATE"))
+                .executionRoleArn(executionRole.getRoleArn())
+                .taskRoleArn(taskRole.getRoleArn())
+                .volumes(singletonList(CfnTaskDefinition.VolumeProperty.builder()
+                        .name(VOLUME_NAME)
+                        .build()))
+                .containerDefinitions(List.of(scenarioDownloader, loadGenerator, resultUploader))
+                .build();
+
+        CfnSecurityGroup loadTestSecurityGroup = CfnSecurityGroup.Builder.create(this, "loadTestSecurityGroup")
+                .vpcId(networkOutputParameters.getVpcId())
+                .groupDescription("Security Group for the load generator tasks")
+                .build();
+
+        CfnSecurityGroupEgress loadTestEgress = CfnSecurityGroupEgress.Builder.create(this, "loadTestEgress")
+                .ipProtocol("tcp")
+                .cidrIp("0.0.0.0/0")
+                .fromPort(0)
+                .toPort(65535)
+                .groupId(loadTestSecurityGroup.getAttrGroupId())
+                .description("Allow all outbound TCP traffic")
+                .build();
+
+        AwsCustomResourcePolicy runTaskPolicy = AwsCustomResourcePolicy.fromStatements(List.of(
+                PolicyStatement.Builder.create()
+                        .effect(Effect.ALLOW)
+                        .actions(singletonList("ecs:RunTask"))
+                        .resources(singletonList(taskDefinition.getRef()))
+                        .build(),
+                PolicyStatement.Builder.create()
+                        .effect(Effect.ALLOW)
+                        .actions(singletonList("iam:PassRole"))
+                        .resources(List.of(executionRole.getRoleArn(), taskRole.getRoleArn()))
+                        .build()));
+
+        // Starts the load generators on every deployment. The run ID is part of the call, so a new run ID
+        // results in a new test run while an unchanged one leaves the previous run alone.
+        AwsSdkCall runTask = runTask(networkOutputParameters, loadTestInputParameters, taskDefinition, loadTestSecurityGroup,
+                loadTestInputParameters.taskCount - tasksWithExtraRps, Map.of());
+
+        AwsCustomResource runLoadTest = AwsCustomResource.Builder.create(this, "runLoadTest")
+                .onCreate(runTask)
+                .onUpdate(runTask)
+                .installLatestAwsSdk(false)
+                .policy(runTaskPolicy)
+                .build();
+
+        if (tasksWithExtraRps > 0) {
+            // RunTask overrides apply to all tasks of a call, so these tasks are started by a second call.
+            AwsSdkCall runTaskWithExtraRps = runTask(networkOutputParameters, loadTestInputParameters, taskDefinition, loadTestSecurityGroup,
+                    tasksWithExtraRps, Map.of("containerOverrides", singletonList(Map.of(
+                            "name", "load-generator",
+                            "environment", singletonList(Map.of(
+                                    "name", "TARGET_RPS",
+                                    "value", String.valueOf(rpsPerTask + 1)))))));
+
+            AwsCustomResource runLoadTestWithExtraRps = AwsCustomResource.Builder.create(this, "runLoadTestWithExtraRps")
+                    .onCreate(runTaskWithExtraRps)
+                    .onUpdate(runTaskWithExtraRps)
+                    .installLatestAwsSdk(false)
+                    .policy(runTaskPolicy)
+                    .build();
+        }
+
+        applicationEnvironment.tag(this);
+    }
+
+    public Bucket getResultsBucket() {
+        return resultsBucket;
+    }
+
+    private static AwsSdkCall runTask(
+            Network.NetworkOutputParameters networkOutputParameters,
+            LoadTestInputParameters loadTestInputParameters,
+            CfnTaskDefinition taskDefinition,
+            CfnSecurityGroup loadTestSecurityGroup,
+            int count,
+            Map<String, Object> overrides) {
+        Map<String, Object> parameters = new HashMap<>(Map.of(
+                "cluster", networkOutputParameters.getEcsClusterName(),
+                "taskDefinition", taskDefinition.getRef(),
+                "count", count,
+                "launchType", "FARGATE",
+                "startedBy", loadTestInputParameters.runId,
+                "networkConfiguration", Map.of(
+                        "awsvpcConfiguration", Map.of(
+                                "assignPublicIp", "ENABLED",
+                                "securityGroups", singletonList(loadTestSecurityGroup.getAttrGroupId()),
+                                "subnets", networkOutputParameters.getPublicSubnets()))));
+        if (!overrides.isEmpty()) {
+            parameters.put("overrides", overrides);
+        }
+        return AwsSdkCall.builder()
+                .service("ECS")
+                .action("runTask")
+                .parameters(parameters)
+                .physicalResourceId(PhysicalResourceId.of(loadTestInputParameters.runId))
+                .outputPaths(singletonList("tasks.0.taskArn"))
+                .build();
+    }
+
+    private CfnTaskDefinition.LogConfigurationProperty logConfiguration(
+            Environment environment,
+            LogGroup logGroup,
+            ApplicationEnvironment applicationEnvironment,
+            String streamPrefix) {
+        return CfnTaskDefinition.LogConfigurationProperty.builder()
+                .logDriver("awslogs")
+                .options(Map.of(
+                        "awslogs-group", logGroup.getLogGroupName(),
+                        "awslogs-region", environment.getRegion(),
+                        "awslogs-stream-prefix", applicationEnvironment.prefix(streamPrefix)
+                ))
+                .build();
+    }
+
+    private CfnTaskDefinition.KeyValuePairProperty keyValuePair(String key, String value) {
+        return CfnTaskDefinition.KeyValuePairProperty.builder()
+                .name(key)
+                .value(value)
+                .build();
+    }
+
+    public static class LoadTestInputParameters {
+        private final String scenarioPath;
+        private final String runId;
+        private int taskCount = 2;
+        private int targetRps = 50;
+        private String duration = "5m";
+        private int cpu = 1024;
+        private int memory = 2048;
+        private int resultRetentionInDays = 30;
+        private String loadGeneratorImage = "grafana/k6:0.50.0";
+
+        /**
+         * @param scenarioPath the path to the k6 scenario file that is bundled as an asset.
+         * @param runId        identifies a test run. The results of a run are stored under this prefix and
+         *                     a deployment with a new run ID starts a new test run.
+         */
+        public LoadTestInputParameters(String scenarioPath, String runId) {
+            Objects.requireNonNull(scenarioPath, "scenarioPath must not be null");
+            Objects.requireNonNull(runId, "runId must not be null");
+            this.scenarioPath = scenarioPath;
+            this.runId = runId;
+        }
+
+        /**
+         * The number of load generator tasks to start. ECS starts at most 10 tasks per RunTask call.
+         * <p>
+         * Default: 2.
+         */
+        public LoadTestInputParameters withTaskCount(int taskCount) {
+            if (taskCount < 1 || taskCount > 10) {
+                throw new IllegalArgumentException("taskCount must be between 1 and 10 but was " + taskCount);
+            }
+            this.taskCount = taskCount;
+            return this;
+        }
+
+        /**
+         * The total number of requests per second all load generators produce together, at least one per task.
+         * Each task produces <code>targetRps / taskCount</code> requests per second, the remainder is spread over
+         * the first tasks.
+         * <p>
+         * Default: 50.
+         */
+        public LoadTestInputParameters withTargetRps(int targetRps) {
+            if (targetRps < 1) {
+                throw new IllegalArgumentException("targetRps must be positive but was " + targetRps);
+            }
+            this.targetRps = targetRps;
+            return this;
+        }
+
+        /**
+         * The duration of the test in k6 notation (for example "30s" or "10m").
+         * <p>
+         * Default: "5m".
+         */
+        public LoadTestInputParameters withDuration(String duration) {
+            Objects.requireNonNull(duration);
+            this.duration = duration;
+            return this;
+        }
+
+        /**
+         * The number of CPU units allocated to each load generator task.
+         * <p>
+         * Default: 1024 (1 CPU).
+         */
+        public LoadTestInputParameters withCpu(int cpu) {
+            this.cpu = cpu;
+            return this;
+        }
+
+        /**
+         * The memory allocated to each load generator task in megabytes.
+         * <p>
+         * Default: 2048.
+         */
+        public LoadTestInputParameters withMemory(int memory) {
+            this.memory = memory;
+            return this;
+        }
+
+        /**
+         * The number of days the results are kept in the results bucket.
+         * <p>
+         * Default: 30.
+         */
+        public LoadTestInputParameters withResultRetentionInDays(int resultRetentionInDays) {
+            this.resultRetentionInDays = resultRetentionInDays;
+            return this;
+        }
+
+        /**
+         * The Docker image of the load generator. It must be compatible with the k6 command line.
+         * <p>
+         * Default: "grafana/k6:0.50.0".
+         */
+        public LoadTestInputParameters withLoadGeneratorImage(String loadGeneratorImage) {
+            Objects.requireNonNull(loadGeneratorImage);
+            this.loadGeneratorImage = loadGeneratorImage;
+            return this;
+        }
+    }
+}
@@ -5,18 +5,23 @@ import org.jetbrains.annotations.Nullable;
 import software.amazon.awscdk.Duration;
 import software.amazon.awscdk.Environment;
 import software.amazon.awscdk.Tags;
+import software.amazon.awscdk.customresources.AwsCustomResource;
+import software.amazon.awscdk.customresources.AwsCustomResourcePolicy;
+import software.amazon.awscdk.customresources.AwsSdkCall;
+import software.amazon.awscdk.customresources.PhysicalResourceId;
+import software.amazon.awscdk.customresources.SdkCallsPolicyOptions;
 import software.amazon.awscdk.services.ec2.*;
 import software.amazon.awscdk.services.ecs.AddCapacityOptions;
 import software.amazon.awscdk.services.ecs.Cluster;
 import software.amazon.awscdk.services.ecs.ICluster;
 import software.amazon.awscdk.services.elasticloadbalancingv2.*;
+import software.amazon.awscdk.services.ssm.StringListParameter;
 import software.amazon.awscdk.services.ssm.StringParameter;
 import software.constructs.Construct;
 
 import java.util.*;
 
 import static com.myorg.constant.AWSParameter.*;
-import static java.util.Arrays.asList;
 
 /**
  * @author : Nguyen Van Quoc Tuan
@@ -40,7 +45,7 @@ public class Network extends Construct {
         super(scope, id);
         this.environmentName = environmentName;
 
-        this.vpc = createVPC(environmentName);
+        this.vpc = createVPC(environmentName, networkInputParameters);
 
         // We're preparing an ECS cluster in the network stack and using it in the ECS stack.
         // If the cluster were in the ECS stack, it would interfere with deleting the ECS stack,
@@ -50,7 +55,21 @@ public class Network extends Construct {
                 .clusterName(prefixWithEnvironmentName("ecsCluster"))
                 .build();
 
-        createLoadBalancer(vpc, networkInputParameters.getSslCertificateArn());
+        createLoadBalancer(vpc, networkInputParameters);
+
+        if (networkInputParameters.isAccessLogsEnabled()) {
+            new LoadBalancerAccessLogs(
+                    this,
+                    "accessLogs",
+                    environment,
+                    environmentName,
+                    (ApplicationLoadBalancer) loadBalancer,
+                    networkInputParameters.getAccessLogRetentionInDays());
+        }
+
+        if (networkInputParameters.isDualStackEnabled()) {
+            enableEcsDualStack();
+        }
 
         Tags.of(this).add("environment", environmentName);
     }
@@ -81,10 +100,13 @@ public class Network extends Construct {
     public ICluster getEcsCluster() {
         return ecsCluster;
     }
-    private IVpc createVPC(final String environmentName) {
+    private IVpc createVPC(final String environmentName, final NetworkInputParameters networkInputParameters) {
+        boolean dualStack = networkInputParameters.isDualStackEnabled();
+
         SubnetConfiguration publicSubnets = SubnetConfiguration.builder()
                 .subnetType(SubnetType.PUBLIC)
                 .name(prefixWithEnvironmentName("publicSubnet"))
+                .ipv6AssignAddressOnCreation(dualStack ? true : null)
                 .build();
 
         SubnetConfiguration isolatedSubnets = SubnetConfiguration.builder()
@@ -92,13 +114,91 @@ public class Network extends Construct {
                 .name(prefixWithEnvironmentName("isolatedSubnet"))
                 .build();
 
-        return Vpc.Builder.create(this, "vpc")
+        List<SubnetConfiguration> subnetConfigurations = new ArrayList<>(Arrays.asList(
+                publicSubnets,
+                isolatedSubnets
+        ));
+
+        Vpc.Builder vpcBuilder = Vpc.Builder.create(this, "vpc")
                 .natGateways(0)
-                .maxAzs(2)
-                .subnetConfiguration(Arrays.asList(
-                        publicSubnets,
-                        isolatedSubnets
-                ))
+                .maxAzs(networkInputParameters.getMaxAzs());
+
+        if (dualStack) {
+            // Private subnets only have outbound internet access via IPv6 through an egress-only internet gateway,
+            // so tasks running there need neither a public IPv4 address nor a NAT gateway.
+            subnetConfigurations.add(SubnetConfiguration.builder()
+                    .subnetType(SubnetType.PRIVATE_WITH_EGRESS)
+                    .name(prefixWithEnvironmentName("privateSubnet"))
+                    .ipv6AssignAddressOnCreation(true)
+                    .build());
+            vpcBuilder.ipProtocol(IpProtocol.DUAL_STACK);
+        }
+
+        Vpc vpc = vpcBuilder
+                .subnetConfiguration(subnetConfigurations)
+                .build();
+
+        if (dualStack) {
+            createPrivateEndpoints(vpc);
+        }
+
+        return vpc;
+    }
+
+    /**
+     * Not all AWS endpoints are reachable over IPv6, so the private subnets reach the services that every task needs
+     * through VPC endpoints: ECR and S3 to pull images, CloudWatch Logs for the awslogs driver and Secrets Manager
+     * for the secrets in the task definition. DynamoDB gets a gateway endpoint, as gateway endpoints are free.
+     */
+    private void createPrivateEndpoints(final Vpc vpc) {
+        List<SubnetSelection> privateSubnets = List.of(SubnetSelection.builder()
+                .subnetType(SubnetType.PRIVATE_WITH_EGRESS)
+                .build());
+
+        vpc.addGatewayEndpoint("s3Endpoint", GatewayVpcEndpointOptions.builder()
+                .service(GatewayVpcEndpointAwsService.S3)
+                .subnets(privateSubnets)
+                .build());
+        vpc.addGatewayEndpoint("dynamoDbEndpoint", GatewayVpcEndpointOptions.builder()
+                .service(GatewayVpcEndpointAwsService.DYNAMODB)
+                .subnets(privateSubnets)
+                .build());
+
+        Map<String, InterfaceVpcEndpointAwsService> interfaceEndpoints = new LinkedHashMap<>();
+        interfaceEndpoints.put("ecrApiEndpoint", InterfaceVpcEndpointAwsService.ECR);
+        interfaceEndpoints.put("ecrDockerEndpoint", InterfaceVpcEndpointAwsService.ECR_DOCKER);
+        interfaceEndpoints.put("logsEndpoint", InterfaceVpcEndpointAwsService.CLOUDWATCH_LOGS);
+        interfaceEndpoints.put("secretsManagerEndpoint", InterfaceVpcEndpointAwsService.SECRETS_MANAGER);
+        interfaceEndpoints.forEach((endpointId, service) -> vpc.addInterfaceEndpoint(endpointId, InterfaceVpcEndpointOptions.builder()
+                .service(service)
+                .subnets(privateSubnets.get(0))
+                .privateDnsEnabled(true)
+                .build()));
+    }
+
+    /**
+     * Fargate tasks only get IPv6 addresses if the ECS account setting "dualStackIPv6" is enabled.
+     * There is no CloudFormation resource for account settings, so it is set with an SDK call. The setting is
+     * account-wide and shared with the networks of other environments, so it stays enabled when the network stack
+     * is deleted or dual-stack mode is turned off.
+     */
+    private void enableEcsDualStack() {
+        AwsSdkCall putAccountSettingDefault = AwsSdkCall.builder()
+                .service("ECS")
+                .action("putAccountSettingDefault")
+                .parameters(Map.of(
+                        "name", "dualStackIPv6",
+                        "value", "enabled"))
+                .physicalResourceId(PhysicalResourceId.of(prefixWithEnvironmentName("ecsDualStackIPv6")))
+                .build();
+
+        AwsCustomResource ecsDualStack = AwsCustomResource.Builder.create(this, "ecsDualStackSetting")
+                .onCreate(putAccountSettingDefault)
+                .onUpdate(putAccountSettingDefault)
+                .installLatestAwsSdk(false)
+                .policy(AwsCustomResourcePolicy.fromSdkCalls(SdkCallsPolicyOptions.builder()
+                        .resources(AwsCustomResourcePolicy.ANY_RESOURCE)
+                        .build()))
                 .build();
     }
 
@@ -108,8 +208,10 @@ public class Network extends Construct {
 
     private void createLoadBalancer(
             final IVpc vpc,
-            final Optional<String> sslCertificateArn
+            final NetworkInputParameters networkInputParameters
     ) {
+        Optional<String> sslCertificateArn = networkInputParameters.getSslCertificateArn();
+
         loadbalancerSecurityGroup = SecurityGroup.Builder.create(this, "loadbalancerSecurityGroup")
                 .securityGroupName(prefixWithEnvironmentName("loadbalancerSecurityGroup"))
                 .description("Public access to the load balancer.")
@@ -123,11 +225,26 @@ public class Network extends Construct {
                 .ipProtocol("-1")
                 .build();
 
+        if (networkInputParameters.isDualStackEnabled()) {
+            CfnSecurityGroupIngress ipv6IngressFromPublic = CfnSecurityGroupIngress.Builder.create(this, "ipv6IngressToLoadbalancer")
+                    .groupId(loadbalancerSecurityGroup.getSecurityGroupId())
+                    .description("Allow all inbound IPv6 traffic on the load balancer listener port")
+                    .cidrIpv6("::/0")
+                    .ipProtocol("-1")
+                    .build();
+        }
+
         loadBalancer = ApplicationLoadBalancer.Builder.create(this, "loadBalancer")
                 .vpc(this.vpc)
                 .loadBalancerName(prefixWithEnvironmentName("loadBalancer"))
                 .internetFacing(true)
                 .securityGroup(loadbalancerSecurityGroup)
+                .http2Enabled(networkInputParameters.isHttp2Enabled())
+                .idleTimeout(Duration.seconds(networkInputParameters.getIdleTimeoutSeconds()))
+                .clientKeepAlive(Duration.seconds(networkInputParameters.getClientKeepAliveSeconds()))
+                .desyncMitigationMode(networkInputParameters.getDesyncMitigationMode())
+                .dropInvalidHeaderFields(networkInputParameters.isDropInvalidHeaderFields())
+                .ipAddressType(networkInputParameters.isDualStackEnabled() ? IpAddressType.DUAL_STACK : IpAddressType.IPV4)
                 .build();
 
         IApplicationTargetGroup dummyTargetGroup = ApplicationTargetGroup.Builder.create(this, "defaultTargetGroup")
@@ -228,34 +345,28 @@ public class Network extends Construct {
                 .stringValue(this.ecsCluster.getClusterName())
                 .build();
 
-        StringParameter availabilityZoneOne = StringParameter.Builder.create(this, "availabilityZoneOne")
-                .parameterName(createParameterName(environmentName, PARAMETER_AVAILABILITY_ZONE_ONE))
-                .stringValue(vpc.getAvailabilityZones().get(0))
-                .build();
-
-        StringParameter availabilityZoneTwo = StringParameter.Builder.create(this, "availabilityZoneTwo")
-                .parameterName(createParameterName(environmentName, PARAMETER_AVAILABILITY_ZONE_TWO))
-                .stringValue(vpc.getAvailabilityZones().get(1))
-                .build();
-
-        StringParameter isolatedSubnetOne = StringParameter.Builder.create(this, "isolatedSubnetOne")
-                .parameterName(createParameterName(environmentName, PARAMETER_ISOLATED_SUBNET_ONE))
-                .stringValue(this.vpc.getIsolatedSubnets().get(0).getSubnetId())
+        // The subnets and availability zones are published as lists, so consumers don't depend on the number of AZs.
+        StringListParameter availabilityZones = StringListParameter.Builder.create(this, "availabilityZones")
+                .parameterName(createParameterName(environmentName, PARAMETER_AVAILABILITY_ZONES))
+                .stringListValue(vpc.getAvailabilityZones())
                 .build();
 
-        StringParameter isolatedSubnetTwo = StringParameter.Builder.create(this, "isolatedSubnetTwo")
-                .parameterName(createParameterName(environmentName, PARAMETER_ISOLATED_SUBNET_TWO))
-                .stringValue(this.vpc.getIsolatedSubnets().get(1).getSubnetId())
+        StringListParameter isolatedSubnets = StringListParameter.Builder.create(this, "isolatedSubnets")
+                .parameterName(createParameterName(environmentName, PARAMETER_ISOLATED_SUBNETS))
+                .stringListValue(subnetIds(this.vpc.getIsolatedSubnets()))
                 .build();
 
-        StringParameter publicSubnetOne = StringParameter.Builder.create(this, "publicSubnetOne")
-                .parameterName(createParameterName(environmentName, PARAMETER_PUBLIC_SUBNET_ONE))
-                .stringValue(this.vpc.getPublicSubnets().get(0).getSubnetId())
+        StringListParameter publicSubnets = StringListParameter.Builder.create(this, "publicSubnets")
+                .parameterName(createParameterName(environmentName, PARAMETER_PUBLIC_SUBNETS))
+                .stringListValue(subnetIds(this.vpc.getPublicSubnets()))
                 .build();
 
-        StringParameter publicSubnetTwo = StringParameter.Builder.create(this, "publicSubnetTwo")
-                .parameterName(createParameterName(environmentName, PARAMETER_PUBLIC_SUBNET_TWO))
-                .stringValue(this.vpc.getPublicSubnets().get(1).getSubnetId())
+        // Private subnets only exist in dual-stack mode, otherwise the parameter holds "null" like the HTTPS listener.
+        StringListParameter privateSubnets = StringListParameter.Builder.create(this, "privateSubnets")
+                .parameterName(createParameterName(environmentName, PARAMETER_PRIVATE_SUBNETS))
+                .stringListValue(this.vpc.getPrivateSubnets().isEmpty()
+                        ? List.of("null")
+                        : subnetIds(this.vpc.getPrivateSubnets()))
                 .build();
 
         StringParameter loadBalancerArn = StringParameter.Builder.create(this, "loadBalancerArn")
@@ -274,6 +385,14 @@ public class Network extends Construct {
                 .build();
     }
 
+    private static List<String> subnetIds(List<ISubnet> subnets) {
+        List<String> subnetIds = new ArrayList<>();
+        for (ISubnet subnet : subnets) {
+            subnetIds.add(subnet.getSubnetId());
+        }
+        return subnetIds;
+    }
+
     /*
      * Description: collects all output parameters of the Network construct and
      * combines them into an object of type NetworkOutputParameters
@@ -296,6 +415,15 @@ public class Network extends Construct {
 
     public static class NetworkInputParameters {
         private Optional<String> sslCertificateArn;
+        private int maxAzs = 2;
+        private boolean dualStackEnabled = false;
+        private boolean http2Enabled = true;
+        private int idleTimeoutSeconds = 60;
+        private int clientKeepAliveSeconds = 3600;
+        private DesyncMitigationMode desyncMitigationMode = DesyncMitigationMode.DEFENSIVE;
+        private boolean dropInvalidHeaderFields = false;
+        private boolean accessLogsEnabled = false;
+        private int accessLogRetentionInDays = 90;
 
         /**
          * @param sslCertificateArn the ARN of the SSL certificate that the load balancer will use
@@ -318,9 +446,157 @@ public class Network extends Construct {
             return this;
         }
 
+        /**
+         * The number of availability zones the VPC spans. The load balancer and the database subnet group
+         * need subnets in at least two availability zones. The number of AZs is capped by the AZs available in the region.
+         * <p>
+         * Default: 2.
+         */
+        public NetworkInputParameters withMaxAzs(int maxAzs) {
+            if (maxAzs < 2) {
+                throw new IllegalArgumentException("maxAzs must be at least 2 but was " + maxAzs);
+            }
+            this.maxAzs = maxAzs;
+            return this;
+        }
+
+        /**
+         * Disable or enable IPv6. In dual-stack mode, the VPC and its public subnets get IPv6 CIDRs, the load balancer
+         * accepts IPv4 and IPv6 clients, and additional private subnets are created that reach the internet over IPv6
+         * through an egress-only internet gateway. Services in these private subnets don't need public IPv4 addresses,
+         * they reach ECR, S3, DynamoDB, CloudWatch Logs and Secrets Manager through VPC endpoints.
+         * <p>
+         * Default: false.
+         */
+        public NetworkInputParameters withDualStackEnabled(boolean dualStackEnabled) {
+            this.dualStackEnabled = dualStackEnabled;
+            return this;
+        }
+
+        /**
+         * Disable or enable HTTP/2 between clients and the load balancer. HTTP/2 or gRPC to the targets
+         * additionally requires an HTTPS listener and the matching protocol version on the target group.
+         * <p>
+         * Default: true.
+         */
+        public NetworkInputParameters withHttp2Enabled(boolean http2Enabled) {
+            this.http2Enabled = http2Enabled;
+            return this;
+        }
+
+        /**
+         * The number of seconds a connection may be idle before the load balancer closes it. It should be
+         * lower than the keep-alive timeout of the application, so the load balancer never reuses a connection
+         * the application has already closed.
+         * <p>
+         * Default: 60.
+         */
+        public NetworkInputParameters withIdleTimeoutSeconds(int idleTimeoutSeconds) {
+            if (idleTimeoutSeconds < 1 || idleTimeoutSeconds > 4000) {
+                throw new IllegalArgumentException("idleTimeoutSeconds must be between 1 and 4000 but was " + idleTimeoutSeconds);
+            }
+            this.idleTimeoutSeconds = idleTimeoutSeconds;
+            return this;
+        }
+
+        /**
+         * The maximum number of seconds a client connection is kept alive, regardless of activity.
+         * <p>
+         * Default: 3600.
+         */
+        public NetworkInputParameters withClientKeepAliveSeconds(int clientKeepAliveSeconds) {
+            if (clientKeepAliveSeconds < 60 || clientKeepAliveSeconds > 604800) {
+                throw new IllegalArgumentException("clientKeepAliveSeconds must be between 60 and 604800 but was " + clientKeepAliveSeconds);
+            }
+            this.clientKeepAliveSeconds = clientKeepAliveSeconds;
+            return this;
+        }
+
+        /**
+         * How the load balancer handles requests that might pose a security risk due to HTTP desync.
+         * <p>
+         * Default: DEFENSIVE.
+         */
+        public NetworkInputParameters withDesyncMitigationMode(DesyncMitigationMode desyncMitigationMode) {
+            Objects.requireNonNull(desyncMitigationMode);
+            this.desyncMitigationMode = desyncMitigationMode;
+            return this;
+        }
+
+        /**
+         * Disable or enable removing HTTP headers with invalid header fields before forwarding requests.
+         * <p>
+         * Default: false.
+         */
+        public NetworkInputParameters withDropInvalidHeaderFields(boolean dropInvalidHeaderFields) {
+            this.dropInvalidHeaderFields = dropInvalidHeaderFields;
+            return this;
+        }
+
+        /**
+         * Disable or enable the access logs of the load balancer. The logs are written into an S3 bucket and can be
+         * queried with Athena through a Glue table and a workgroup with saved queries (see {@link LoadBalancerAccessLogs}).
+         * <p>
+         * Default: false.
+         */
+        public NetworkInputParameters withAccessLogsEnabled(boolean accessLogsEnabled) {
+            this.accessLogsEnabled = accessLogsEnabled;
+            return this;
+        }
+
+        /**
+         * The number of days the access logs are kept. With a retention of more than 30 days, logs move to the
+         * infrequent access storage class after 30 days.
+         * <p>
+         * Default: 90.
+         */
+        public NetworkInputParameters withAccessLogRetentionInDays(int accessLogRetentionInDays) {
+            if (accessLogRetentionInDays < 1) {
+                throw new IllegalArgumentException("accessLogRetentionInDays must be at least 1 but was " + accessLogRetentionInDays);
+            }
+            this.accessLogRetentionInDays = accessLogRetentionInDays;
+            return this;
+        }
+
         public Optional<String> getSslCertificateArn() {
             return sslCertificateArn;
         }
+
+        public int getMaxAzs() {
+            return maxAzs;
+        }
+
+        public boolean isDualStackEnabled() {
+            return dualStackEnabled;
+        }
+
+        public boolean isHttp2Enabled() {
+            return http2Enabled;
+        }
+
+        public int getIdleTimeoutSeconds() {
+            return idleTimeoutSeconds;
+        }
+
+        public int getClientKeepAliveSeconds() {
+            return clientKeepAliveSeconds;
+        }
+
+        public DesyncMitigationMode getDesyncMitigationMode() {
+            return desyncMitigationMode;
+        }
+
+        public boolean isDropInvalidHeaderFields() {
+            return dropInvalidHeaderFields;
+        }
+
+        public boolean isAccessLogsEnabled() {
+            return accessLogsEnabled;
+        }
+
+        public int getAccessLogRetentionInDays() {
+            return accessLogRetentionInDays;
+        }
     }
 
     /*
@@ -380,36 +656,37 @@ public class Network extends Construct {
     }
 
     private static List<String> getIsolatedSubnetsFromParameterStore(Construct scope, String environmentName) {
-
-        String subnetOneId = StringParameter.fromStringParameterName(scope, PARAMETER_ISOLATED_SUBNET_ONE, createParameterName(environmentName, PARAMETER_ISOLATED_SUBNET_ONE))
-                .getStringValue();
-
-        String subnetTwoId = StringParameter.fromStringParameterName(scope, PARAMETER_ISOLATED_SUBNET_TWO, createParameterName(environmentName, PARAMETER_ISOLATED_SUBNET_TWO))
-                .getStringValue();
-
-        return asList(subnetOneId, subnetTwoId);
+        return StringListParameter.fromStringListParameterName(scope, PARAMETER_ISOLATED_SUBNETS, createParameterName(environmentName, PARAMETER_ISOLATED_SUBNETS))
+                .getStringListValue();
     }
 
     private static List<String> getAvailabilityZonesFromParameterStore(Construct scope, String environmentName) {
+        return StringListParameter.fromStringListParameterName(scope, PARAMETER_AVAILABILITY_ZONES, createParameterName(environmentName, PARAMETER_AVAILABILITY_ZONES))
+                .getStringListValue();
+    }
 
-        String availabilityZoneOne = StringParameter.fromStringParameterName(scope, PARAMETER_AVAILABILITY_ZONE_ONE, createParameterName(environmentName, PARAMETER_AVAILABILITY_ZONE_ONE))
-                .getStringValue();
-
-        String availabilityZoneTwo = StringParameter.fromStringParameterName(scope, PARAMETER_AVAILABILITY_ZONE_TWO, createParameterName(environmentName, PARAMETER_AVAILABILITY_ZONE_TWO))
-                .getStringValue();
+    /**
+     * Returns the IDs of the private subnets. They only exist if the {@link Network} construct has been deployed
+     * in dual-stack mode (see {@link NetworkInputParameters#withDualStackEnabled(boolean)}), otherwise the list
+     * only contains "null".
+     */
+    public static List<String> getPrivateSubnetsFromParameterStore(Construct scope, String environmentName) {
+        // Read through a template parameter rather than a dynamic reference, so template rules can check the value.
+        return StringListParameter.valueForTypedListParameter(scope, createParameterName(environmentName, PARAMETER_PRIVATE_SUBNETS));
+    }
 
-        return asList(availabilityZoneOne, availabilityZoneTwo);
+    /**
+     * Returns the IDs of the isolated subnets, one per AZ in the order of the AZs, through a template parameter.
+     * Unlike a dynamic reference, the parameter is resolved when the change set is created, so selecting a subnet
+     * of an AZ that doesn't exist fails before any resource is changed.
+     */
+    public static List<String> getIsolatedSubnetsFromTemplateParameter(Construct scope, String environmentName) {
+        return StringListParameter.valueForTypedListParameter(scope, createParameterName(environmentName, PARAMETER_ISOLATED_SUBNETS));
     }
 
     private static List<String> getPublicSubnetsFromParameterStore(Construct scope, String environmentName) {
-
-        String subnetOneId = StringParameter.fromStringParameterName(scope, PARAMETER_PUBLIC_SUBNET_ONE, createParameterName(environmentName, PARAMETER_PUBLIC_SUBNET_ONE))
-                .getStringValue();
-
-        String subnetTwoId = StringParameter.fromStringParameterName(scope, PARAMETER_PUBLIC_SUBNET_TWO, createParameterName(environmentName, PARAMETER_PUBLIC_SUBNET_TWO))
-                .getStringValue();
-
-        return asList(subnetOneId, subnetTwoId);
+        return StringListParameter.fromStringListParameterName(scope, PARAMETER_PUBLIC_SUBNETS, createParameterName(environmentName, PARAMETER_PUBLIC_SUBNETS))
+                .getStringListValue();
     }
 
 
@@ -489,21 +766,24 @@ public class Network extends Construct {
         }
 
         /**
-         * The IDs of the isolated subnets.
+         * The IDs of the isolated subnets. This is a list token that resolves at deploy time, so use
+         * {@link software.amazon.awscdk.Fn#select(Number, List)} to pick a single element.
          */
         public List<String> getIsolatedSubnets() {
             return this.isolatedSubnets;
         }
 
         /**
-         * The IDs of the public subnets.
+         * The IDs of the public subnets. This is a list token that resolves at deploy time, so use
+         * {@link software.amazon.awscdk.Fn#select(Number, List)} to pick a single element.
          */
         public List<String> getPublicSubnets() {
             return this.publicSubnets;
         }
 
         /**
-         * The names of the availability zones of the VPC.
+         * The names of the availability zones of the VPC. This is a list token that resolves at deploy time, so use
+         * {@link software.amazon.awscdk.Fn#select(Number, List)} to pick a single element.
          */
         public List<String> getAvailabilityZones() {
             return this.availabilityZones;
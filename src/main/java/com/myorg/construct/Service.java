@@ -10,7 +10,11 @@ import software.amazon.awscdk.services.ecs.CfnService;
 import software.amazon.awscdk.services.ecs.CfnTaskDefinition;
 import software.amazon.awscdk.services.elasticloadbalancingv2.CfnListenerRule;
 import software.amazon.awscdk.services.elasticloadbalancingv2.CfnTargetGroup;
+import software.amazon.awscdk.customresources.Provider;
 import software.amazon.awscdk.services.iam.*;
+import software.amazon.awscdk.services.lambda.Code;
+import software.amazon.awscdk.services.lambda.Function;
+import software.amazon.awscdk.services.lambda.Runtime;
 import software.amazon.awscdk.services.logs.LogGroup;
 import software.amazon.awscdk.services.logs.RetentionDays;
 import software.constructs.Construct;
@@ -47,9 +51,19 @@ public class Service extends Construct {
             targetGroupAttributes.addAll(stickySessionConfiguration);
         }
 
+        // HTTP/2 and gRPC target groups only receive requests from HTTPS listeners.
+        boolean httpsOnly = !"HTTP1".equals(serviceInputParameters.protocolVersion);
+        boolean grpc = "GRPC".equals(serviceInputParameters.protocolVersion);
+        Optional<String> httpsListenerArn = networkOutputParameters.getHttpsListenerArn();
+        if (httpsOnly && httpsListenerArn.isEmpty()) {
+            throw new IllegalArgumentException("protocolVersion " + serviceInputParameters.protocolVersion + " needs an HTTPS listener, the network has none");
+        }
+
         CfnTargetGroup targetGroup = CfnTargetGroup.Builder.create(this, "targetGroup")
                 .healthCheckIntervalSeconds(serviceInputParameters.healthCheckIntervalSeconds)
-                .healthCheckPath(serviceInputParameters.healthCheckPath)
+                .healthCheckPath(grpc && "/".equals(serviceInputParameters.healthCheckPath)
+                        ? "/grpc.health.v1.Health/Check"
+                        : serviceInputParameters.healthCheckPath)
                 .healthCheckProtocol(serviceInputParameters.containerProtocol)
                 .healthCheckPort(String.valueOf(serviceInputParameters.containerPort))
                 .healthCheckTimeoutSeconds(serviceInputParameters.healthCheckTimeoutSeconds)
@@ -59,6 +73,10 @@ public class Service extends Construct {
                 .targetType("ip")
                 .port(serviceInputParameters.containerPort)
                 .protocol(serviceInputParameters.containerProtocol)
+                .protocolVersion(serviceInputParameters.protocolVersion)
+                .matcher(grpc
+                        ? CfnTargetGroup.MatcherProperty.builder().grpcCode(serviceInputParameters.healthCheckGrpcCodes).build()
+                        : null)
                 .vpcId(networkOutputParameters.getVpcId())
                 .build();
 
@@ -72,10 +90,9 @@ public class Service extends Construct {
                 .values(singletonList("*"))
                 .build();
 
-        Optional<String> httpsListenerArn = networkOutputParameters.getHttpsListenerArn();
-
+        CfnListenerRule httpsListenerRule = null;
         if (httpsListenerArn.isPresent()) {
-            CfnListenerRule httpsListenerRule = CfnListenerRule.Builder.create(this, "httpsListenerRule")
+            httpsListenerRule = CfnListenerRule.Builder.create(this, "httpsListenerRule")
                     .actions(singletonList(actionProperty))
                     .conditions(singletonList(condition))
                     .listenerArn(httpsListenerArn.get())
@@ -90,15 +107,29 @@ public class Service extends Construct {
                     .expression(Fn.conditionNot(Fn.conditionEquals(httpsListenerArn.get(), "null")))
                     .build();
 
-            httpsListenerRule.getCfnOptions().setCondition(httpsListenerRuleCondition);
+            if (httpsOnly) {
+                // The parameter holds "null" when the network was deployed without an SSL certificate.
+                CfnRule.Builder.create(this, "httpsListenerRequired")
+                        .assertions(singletonList(CfnRuleAssertion.builder()
+                                .assertValue(Fn.conditionNot(Fn.conditionEquals(httpsListenerArn.get(), "null")))
+                                .assertDescription("protocolVersion " + serviceInputParameters.protocolVersion + " needs an HTTPS listener")
+                                .build()))
+                        .build();
+            } else {
+                httpsListenerRule.getCfnOptions().setCondition(httpsListenerRuleCondition);
+            }
         }
 
-        CfnListenerRule httpListenerRule = CfnListenerRule.Builder.create(this, "httpListenerRule")
-                .actions(singletonList(actionProperty))
-                .conditions(singletonList(condition))
-                .listenerArn(networkOutputParameters.getHttpListenerArn())
-                .priority(2)
-                .build();
+        // The HTTP listener only forwards HTTP/1.1 requests, it redirects to HTTPS when the network has a certificate.
+        CfnListenerRule listenerRule = httpsListenerRule;
+        if (!httpsOnly) {
+            listenerRule = CfnListenerRule.Builder.create(this, "httpListenerRule")
+                    .actions(singletonList(actionProperty))
+                    .conditions(singletonList(condition))
+                    .listenerArn(networkOutputParameters.getHttpListenerArn())
+                    .priority(2)
+                    .build();
+        }
 
         LogGroup logGroup = LogGroup.Builder.create(this, "ecsLogGroup")
                 .logGroupName(applicationEnvironment.prefix("logs"))
@@ -155,6 +186,8 @@ public class Service extends Construct {
             IRepository dockerRepository = Repository.fromRepositoryName(this, "ecrRepository", serviceInputParameters.dockerImageSource.getDockerRepositoryName());
             dockerRepository.grantPull(ecsTaskExecutionRole);
             dockerRepositoryUrl = dockerRepository.repositoryUriForTag(serviceInputParameters.dockerImageSource.getDockerImageTag());
+        } else {
+            dockerRepositoryUrl = serviceInputParameters.dockerImageSource.getDockerImageUrl();
         }
 
         //config container property
@@ -218,7 +251,30 @@ public class Service extends Construct {
                 .cidrIp("0.0.0.0/0")
                 .build();
 
-        allowIngressFromEcs(serviceInputParameters.securityGroupIdsToGrantIngressFromEcs, ecsSecurityGroup);
+        List<CfnSecurityGroupIngress> ingressesFromEcs = allowIngressFromEcs(serviceInputParameters.securityGroupIdsToGrantIngressFromEcs, ecsSecurityGroup);
+
+        // Without a public IPv4 address, the tasks run in the private subnets of a dual-stack network
+        // and reach the internet over IPv6 only.
+        List<String> subnets = networkOutputParameters.getPublicSubnets();
+        if (!serviceInputParameters.assignPublicIp) {
+            subnets = Network.getPrivateSubnetsFromParameterStore(this, applicationEnvironment.getEnvironmentName());
+
+            CfnRule.Builder.create(this, "privateSubnetsRequired")
+                    .assertions(singletonList(CfnRuleAssertion.builder()
+                            .assertValue(Fn.conditionNot(Fn.conditionEachMemberEquals(subnets, "null")))
+                            .assertDescription("tasks without a public IP address need a network deployed in dual-stack mode")
+                            .build()))
+                    .build();
+
+            CfnSecurityGroupEgress ecsIpv6EgressRule = CfnSecurityGroupEgress.Builder.create(this, "ecsIpv6Egress")
+                    .ipProtocol("tcp")
+                    .cidrIpv6("::/0")
+                    .fromPort(0)
+                    .toPort(65535)
+                    .groupId(ecsSecurityGroup.getAttrGroupId())
+                    .description("Allow all outbound IPv6 TCP traffic")
+                    .build();
+        }
 
         CfnService service = CfnService.Builder.create(this, "ecsService")
                 .cluster(networkOutputParameters.getEcsClusterName())
@@ -236,20 +292,147 @@ public class Service extends Construct {
                         .build()))
                 .networkConfiguration(CfnService.NetworkConfigurationProperty.builder()
                         .awsvpcConfiguration(CfnService.AwsVpcConfigurationProperty.builder()
-                                .assignPublicIp("ENABLED")
+                                .assignPublicIp(serviceInputParameters.assignPublicIp ? "ENABLED" : "DISABLED")
                                 .securityGroups(singletonList(ecsSecurityGroup.getAttrGroupId()))
-                                .subnets(networkOutputParameters.getPublicSubnets())
+                                .subnets(subnets)
                                 .build())
                         .build())
                 .build();
 
+        if (!serviceInputParameters.schemaMigrationCommand.isEmpty()) {
+            CustomResource schemaMigration = createSchemaMigration(
+                    applicationEnvironment,
+                    serviceInputParameters,
+                    networkOutputParameters,
+                    taskDefinition,
+                    ecsTaskExecutionRole,
+                    ecsTaskRole,
+                    ecsSecurityGroup,
+                    subnets);
+            // The migration task needs the same network access as the service to reach the database.
+            schemaMigration.getNode().addDependency(ecsEgressRule);
+            ingressesFromEcs.forEach(ingress -> schemaMigration.getNode().addDependency(ingress));
+            // The new task definition only replaces the running tasks once the schema has been migrated.
+            service.getNode().addDependency(schemaMigration);
+        }
+
         // Adding an explicit dependency from the service to the listeners to avoid "has no load balancer associated" error
         // (see https://stackoverflow.com/questions/61250772/how-can-i-create-a-dependson-relation-between-ec2-and-rds-using-aws-cdk).
-        service.addDependency(httpListenerRule);
+        service.addDependency(listenerRule);
 
         applicationEnvironment.tag(this);
     }
 
+    /**
+     * Runs the schema migration command in a one-off task of the new task definition and waits until the task
+     * has stopped. The deployment fails if the migration container exits with a non-zero exit code. The migration
+     * runs again whenever the task definition (for example the image tag) or the command changes.
+     */
+    private CustomResource createSchemaMigration(
+            ApplicationEnvironment applicationEnvironment,
+            ServiceInputParameters serviceInputParameters,
+            Network.NetworkOutputParameters networkOutputParameters,
+            CfnTaskDefinition taskDefinition,
+            Role ecsTaskExecutionRole,
+            Role ecsTaskRole,
+            CfnSecurityGroup ecsSecurityGroup,
+            List<String> subnets) {
+        Function startMigration = Function.Builder.create(this, "startSchemaMigrationFunction")
+                .runtime(Runtime.NODEJS_20_X)
+                .handler("index.handler")
+                .timeout(Duration.minutes(1))
+                .code(Code.fromInline("""
+                        const { ECSClient, RunTaskCommand } = require('@aws-sdk/client-ecs');
+                        const ecs = new ECSClient({});
+                        exports.handler = async (event) => {
+                          if (event.RequestType === 'Delete') {
+                            return { PhysicalResourceId: event.PhysicalResourceId };
+                          }
+                          const props = event.ResourceProperties;
+                          const result = await ecs.send(new RunTaskCommand({
+                            cluster: props.Cluster,
+                            taskDefinition: props.TaskDefinition,
+                            launchType: 'FARGATE',
+                            count: 1,
+                            startedBy: 'schema-migration',
+                            networkConfiguration: {
+                              awsvpcConfiguration: {
+                                assignPublicIp: props.AssignPublicIp,
+                                securityGroups: props.SecurityGroups,
+                                subnets: props.Subnets
+                              }
+                            },
+                            overrides: {
+                              containerOverrides: [{ name: props.ContainerName, command: props.Command }]
+                            }
+                          }));
+                          if (!result.tasks || result.tasks.length === 0) {
+                            throw new Error('Could not start the schema migration task: ' + JSON.stringify(result.failures));
+                          }
+                          return { PhysicalResourceId: props.TaskDefinition, Data: { TaskArn: result.tasks[0].taskArn } };
+                        };"""))
+                .build();
+        startMigration.addToRolePolicy(PolicyStatement.Builder.create()
+                .effect(Effect.ALLOW)
+                .actions(singletonList("ecs:RunTask"))
+                .resources(singletonList(taskDefinition.getRef()))
+                .build());
+        startMigration.addToRolePolicy(PolicyStatement.Builder.create()
+                .effect(Effect.ALLOW)
+                .actions(singletonList("iam:PassRole"))
+                .resources(List.of(ecsTaskExecutionRole.getRoleArn(), ecsTaskRole.getRoleArn()))
+                .build());
+
+        Function checkMigration = Function.Builder.create(this, "checkSchemaMigrationFunction")
+                .runtime(Runtime.NODEJS_20_X)
+                .handler("index.handler")
+                .timeout(Duration.minutes(1))
+                .code(Code.fromInline("""
+                        const { ECSClient, DescribeTasksCommand } = require('@aws-sdk/client-ecs');
+                        const ecs = new ECSClient({});
+                        exports.handler = async (event) => {
+                          if (event.RequestType === 'Delete') {
+                            return { IsComplete: true };
+                          }
+                          const props = event.ResourceProperties;
+                          const result = await ecs.send(new DescribeTasksCommand({ cluster: props.Cluster, tasks: [event.Data.TaskArn] }));
+                          const task = result.tasks[0];
+                          if (task.lastStatus !== 'STOPPED') {
+                            return { IsComplete: false };
+                          }
+                          const container = task.containers.find((c) => c.name === props.ContainerName);
+                          if (!container || container.exitCode !== 0) {
+                            throw new Error('Schema migration failed (exit code ' + (container && container.exitCode) + '): ' + task.stoppedReason);
+                          }
+                          return { IsComplete: true };
+                        };"""))
+                .build();
+        checkMigration.addToRolePolicy(PolicyStatement.Builder.create()
+                .effect(Effect.ALLOW)
+                .actions(singletonList("ecs:DescribeTasks"))
+                .resources(singletonList("*"))
+                .build());
+
+        Provider schemaMigrationProvider = Provider.Builder.create(this, "schemaMigrationProvider")
+                .onEventHandler(startMigration)
+                .isCompleteHandler(checkMigration)
+                .queryInterval(Duration.seconds(15))
+                .totalTimeout(Duration.minutes(serviceInputParameters.schemaMigrationTimeoutMinutes))
+                .build();
+
+        return CustomResource.Builder.create(this, "schemaMigration")
+                .serviceToken(schemaMigrationProvider.getServiceToken())
+                .properties(Map.of(
+                        "Cluster", networkOutputParameters.getEcsClusterName(),
+                        "TaskDefinition", taskDefinition.getRef(),
+                        "ContainerName", containerName(applicationEnvironment),
+                        "Command", serviceInputParameters.schemaMigrationCommand,
+                        "AssignPublicIp", serviceInputParameters.assignPublicIp ? "ENABLED" : "DISABLED",
+                        "SecurityGroups", singletonList(ecsSecurityGroup.getAttrGroupId()),
+                        "Subnets", subnets))
+                .build();
+    }
+
     private String containerName(ApplicationEnvironment applicationEnvironment) {
         return applicationEnvironment.prefix("container");
     }
@@ -269,7 +452,8 @@ public class Service extends Construct {
         return keyValuePairs;
     }
 
-    private void allowIngressFromEcs(List<String> securityGroupIds, CfnSecurityGroup ecsSecurityGroup) {
+    private List<CfnSecurityGroupIngress> allowIngressFromEcs(List<String> securityGroupIds, CfnSecurityGroup ecsSecurityGroup) {
+        List<CfnSecurityGroupIngress> ingresses = new ArrayList<>();
         int i = 1;
         for (String securityGroupId : securityGroupIds) {
             CfnSecurityGroupIngress ingress = CfnSecurityGroupIngress.Builder.create(this, "securityGroupIngress" + i)
@@ -277,8 +461,10 @@ public class Service extends Construct {
                     .groupId(securityGroupId)
                     .ipProtocol("-1")
                     .build();
+            ingresses.add(ingress);
             i++;
         }
+        return ingresses;
     }
 
     public static class DockerImageSource {
@@ -333,6 +519,8 @@ public class Service extends Construct {
         private String healthCheckPath = "/";
         private int containerPort = 8080;
         private String containerProtocol = "HTTP";
+        private String protocolVersion = "HTTP1";
+        private String healthCheckGrpcCodes = "0";
         private int healthCheckTimeoutSeconds = 5;
         private int healthyThresholdCount = 2;
         private int unhealthyThresholdCount = 8;
@@ -343,7 +531,10 @@ public class Service extends Construct {
         private int maximumInstancesPercent = 200;
         private int minimumHealthyInstancesPercent = 50;
         private boolean stickySessionsEnabled = false;
+        private boolean assignPublicIp = true;
         private String awslogsDateTimeFormat = "%Y-%m-%dT%H:%M:%S.%f%z";
+        private List<String> schemaMigrationCommand = Collections.emptyList();
+        private int schemaMigrationTimeoutMinutes = 30;
 
         /**
          * configure to run a Docker image in an ECS service. The default values are set in a way
@@ -377,6 +568,19 @@ public class Service extends Construct {
             this.securityGroupIdsToGrantIngressFromEcs = Collections.emptyList();
         }
 
+        /**
+         * The maximum number of tasks that may run at the same time: the desired instances scaled by the maximum
+         * percent during deployments, plus the schema migration task.
+         */
+        int getMaximumTaskCount() {
+            int maximumServiceTasks = (int) Math.ceil(desiredInstancesCount * maximumInstancesPercent / 100.0);
+            return maximumServiceTasks + (schemaMigrationCommand.isEmpty() ? 0 : 1);
+        }
+
+        int getHealthCheckTimeoutSeconds() {
+            return healthCheckTimeoutSeconds;
+        }
+
         /**
          * The interval to wait between two health checks.
          * <p>
@@ -418,6 +622,35 @@ public class Service extends Construct {
             return this;
         }
 
+        /**
+         * The protocol version the load balancer uses to talk to the application: "HTTP1", "HTTP2" or "GRPC".
+         * HTTP2 and GRPC are only supported on HTTPS listeners, so the network must have an SSL certificate and the
+         * service is not added to the HTTP listener. With GRPC the health check calls the standard gRPC health
+         * service "/grpc.health.v1.Health/Check" unless another health check path is set.
+         * <p>
+         * Default: "HTTP1".
+         */
+        public ServiceInputParameters withProtocolVersion(String protocolVersion) {
+            Objects.requireNonNull(protocolVersion);
+            if (!List.of("HTTP1", "HTTP2", "GRPC").contains(protocolVersion)) {
+                throw new IllegalArgumentException("protocolVersion must be one of HTTP1, HTTP2 or GRPC but was " + protocolVersion);
+            }
+            this.protocolVersion = protocolVersion;
+            return this;
+        }
+
+        /**
+         * The gRPC status codes of a successful health check when the protocol version is "GRPC", for example "0"
+         * or "0-12".
+         * <p>
+         * Default: "0".
+         */
+        public ServiceInputParameters withHealthCheckGrpcCodes(String healthCheckGrpcCodes) {
+            Objects.requireNonNull(healthCheckGrpcCodes);
+            this.healthCheckGrpcCodes = healthCheckGrpcCodes;
+            return this;
+        }
+
         /**
          * The number of seconds to wait for a response until a health check is deemed unsuccessful.
          * <p>
@@ -536,6 +769,19 @@ public class Service extends Construct {
             return this;
         }
 
+        /**
+         * Disable or enable public IPv4 addresses for the tasks. Without a public IPv4 address, the tasks run in the
+         * private subnets of the network, which only exist if the network has been deployed in dual-stack mode
+         * (otherwise the deployment fails). The tasks then reach ECR, CloudWatch Logs and Secrets Manager through
+         * VPC endpoints and the rest of the internet over IPv6.
+         * <p>
+         * Default: true.
+         */
+        public ServiceInputParameters withAssignPublicIp(boolean assignPublicIp) {
+            this.assignPublicIp = assignPublicIp;
+            return this;
+        }
+
         /**
          * The format of the date time used in log entries. The awslogs driver will use this pattern to extract
          * the timestamp from a log event and also to distinguish between multiple multi-line log events.
@@ -548,5 +794,32 @@ public class Service extends Construct {
             this.awslogsDateTimeFormat = awsLogsDateTimeFormat;
             return this;
         }
+
+        /**
+         * The command that migrates the database schema, for example a Flyway or Liquibase run. If set, every
+         * deployment of a new task definition first runs this command in a one-off task with the same image,
+         * environment and network as the service, and only updates the service once the task has exited
+         * successfully. The application containers should then only validate the schema on startup.
+         * <p>
+         * Default: none (no migration task).
+         */
+        public ServiceInputParameters withSchemaMigrationCommand(List<String> schemaMigrationCommand) {
+            Objects.requireNonNull(schemaMigrationCommand);
+            this.schemaMigrationCommand = schemaMigrationCommand;
+            return this;
+        }
+
+        /**
+         * The maximum time to wait for the schema migration task to finish before the deployment fails.
+         * <p>
+         * Default: 30.
+         */
+        public ServiceInputParameters withSchemaMigrationTimeoutMinutes(int schemaMigrationTimeoutMinutes) {
+            if (schemaMigrationTimeoutMinutes < 1 || schemaMigrationTimeoutMinutes > 120) {
+                throw new IllegalArgumentException("schemaMigrationTimeoutMinutes must be between 1 and 120 but was " + schemaMigrationTimeoutMinutes);
+            }
+            this.schemaMigrationTimeoutMinutes = schemaMigrationTimeoutMinutes;
+            return this;
+        }
     }
 }
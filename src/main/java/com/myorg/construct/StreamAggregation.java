@@ -0,0 +1,282 @@
+package com.myorg.construct;
+
+import software.amazon.awscdk.Duration;
+import software.amazon.awscdk.services.dynamodb.Attribute;
+import software.amazon.awscdk.services.dynamodb.AttributeType;
+import software.amazon.awscdk.services.lambda.Code;
+import software.amazon.awscdk.services.lambda.FilterCriteria;
+import software.amazon.awscdk.services.lambda.FilterRule;
+import software.amazon.awscdk.services.lambda.Function;
+import software.amazon.awscdk.services.lambda.Runtime;
+import software.amazon.awscdk.services.lambda.StartingPosition;
+import software.amazon.awscdk.services.lambda.eventsources.DynamoEventSource;
+import software.amazon.awscdk.services.lambda.eventsources.SqsDlq;
+import software.amazon.awscdk.services.sqs.Queue;
+import software.constructs.Construct;
+
+import java.util.Map;
+import java.util.Objects;
+
+import static java.util.Collections.singletonList;
+
+/**
+ * @author : Nguyen Van Quoc Tuan
+ * @date: 10/19/2026, Monday
+ * @description:
+ *
+ * Keeps precomputed counts of the items written into a {@link DynamoDBTable} (for example the user actions) up to
+ * date in a counters table, so dashboards read a single counter item instead of aggregating the items on every
+ * page load. A function consumes the stream of the source table in batches, counts the new items per user and day
+ * first and then adds the counts to the counter items with atomic updates, so each counter is written once per
+ * transaction of up to 24 records:
+ *
+ *****pk=USER#<userId>, sk=TOTAL: number of items of the user
+ *****pk=USER#<userId>, sk=DAY#<yyyy-MM-dd>: number of items of the user on the day
+ *****pk=DAY#<yyyy-MM-dd>, sk=TOTAL: number of items on the day
+ *
+ * The count is stored in the attribute "count", the day is taken from the first ten characters of the ISO-8601
+ * timestamp attribute. Items without a user ID or a readable day are not counted. Daily counters expire by TTL.
+ *
+ * Every record is counted exactly once: the counter updates of the records are written in a transaction together with
+ * a marker item per record (pk=RECORD#<eventID>, sk=APPLIED, expiring after two days, longer than the stream keeps
+ * the records). A retried record whose marker exists is left out of the transaction. When a transaction fails, the
+ * function reports its first record as failed, so the batch is retried from there. Failing batches are split in
+ * halves, records that still fail after all retries are sent to a dead-letter queue.
+ *
+ * The source table must have its stream enabled (see {@link DynamoDBTable.DynamoDBInputParameters#withStreamEnabled}).
+ **/
+public class StreamAggregation extends Construct {
+
+    private final DynamoDBTable countersTable;
+
+    public StreamAggregation(
+            final Construct scope,
+            final String id,
+            final ApplicationEnvironment applicationEnvironment,
+            final DynamoDBTable sourceTable,
+            final StreamAggregationInputParameters inputParameters) {
+
+        super(scope, id);
+
+        if (sourceTable.getTable().getTableStreamArn() == null) {
+            throw new IllegalArgumentException("the source table needs a stream to be aggregated");
+        }
+
+        this.countersTable = new DynamoDBTable(
+                this,
+                "countersTable",
+                applicationEnvironment,
+                new DynamoDBTable.DynamoDBInputParameters(inputParameters.countersTableName)
+                        .withPartitionKey(Attribute.builder().name("pk").type(AttributeType.STRING).build())
+                        .withSortKey(Attribute.builder().name("sk").type(AttributeType.STRING).build())
+                        .withTimeToLiveAttribute("expiresAt")
+                        .withExpiredItemArchiveEnabled(false));
+
+        Function aggregationFunction = Function.Builder.create(this, "aggregationFunction")
+                .runtime(Runtime.NODEJS_20_X)
+                .handler("index.handler")
+                .timeout(Duration.minutes(1))
+                .environment(Map.of(
+                        "COUNTERS_TABLE_NAME", this.countersTable.getTable().getTableName(),
+                        "USER_ID_ATTRIBUTE", inputParameters.userIdAttribute,
+                        "TIMESTAMP_ATTRIBUTE", inputParameters.timestampAttribute,
+                        "DAILY_COUNTER_RETENTION_DAYS", String.valueOf(inputParameters.dailyCounterRetentionInDays)))
+                .code(Code.fromInline("""
+                        const { DynamoDBClient, TransactWriteItemsCommand } = require('@aws-sdk/client-dynamodb');
+                        const { unmarshall } = require('@aws-sdk/util-dynamodb');
+                        const dynamodb = new DynamoDBClient({});
+                        // A marker and up to three counters per record, within the limit of 100 items per transaction.
+                        const RECORDS_PER_TRANSACTION = 24;
+                        const MARKER_TTL_SECONDS = 2 * 86400;
+                        exports.handler = async (event) => {
+                          const records = [];
+                          for (const record of event.Records) {
+                            const item = unmarshall(record.dynamodb.NewImage);
+                            const userId = item[process.env.USER_ID_ATTRIBUTE];
+                            const timestamp = item[process.env.TIMESTAMP_ATTRIBUTE];
+                            const day = typeof timestamp === 'string' ? timestamp.substring(0, 10) : '';
+                            // Records that can't be counted are skipped, they would fail every retry of the batch.
+                            if (userId === undefined || !/^\\d{4}-\\d{2}-\\d{2}$/.test(day) || Number.isNaN(Date.parse(day))) {
+                              console.warn('Skipping record ' + record.eventID + ' without user ID or readable timestamp');
+                              continue;
+                            }
+                            records.push({ eventId: record.eventID, sequenceNumber: record.dynamodb.SequenceNumber, userId: String(userId), day });
+                          }
+                          for (let i = 0; i < records.length; i += RECORDS_PER_TRANSACTION) {
+                            const chunk = records.slice(i, i + RECORDS_PER_TRANSACTION);
+                            try {
+                              await apply(chunk);
+                            } catch (error) {
+                              console.error('Could not update the counters of record ' + chunk[0].eventId, error);
+                              // The earlier chunks are applied, the batch is retried from this chunk on.
+                              return { batchItemFailures: [{ itemIdentifier: chunk[0].sequenceNumber }] };
+                            }
+                          }
+                          return { batchItemFailures: [] };
+                        };
+                        async function apply(chunk) {
+                          let pending = chunk;
+                          while (pending.length > 0) {
+                            try {
+                              await dynamodb.send(new TransactWriteItemsCommand({ TransactItems: transactItems(pending) }));
+                              return;
+                            } catch (error) {
+                              if (error.name !== 'TransactionCanceledException') {
+                                throw error;
+                              }
+                              // An existing marker means an earlier attempt counted the record, so it is left out.
+                              const reasons = error.CancellationReasons || [];
+                              const applied = pending.filter((record, index) => reasons[index] && reasons[index].Code === 'ConditionalCheckFailed');
+                              if (applied.length === 0) {
+                                throw error;
+                              }
+                              pending = pending.filter((record) => !applied.includes(record));
+                            }
+                          }
+                        }
+                        function transactItems(records) {
+                          const now = Math.floor(Date.now() / 1000);
+                          const markers = records.map((record) => ({
+                            Put: {
+                              TableName: process.env.COUNTERS_TABLE_NAME,
+                              Item: { pk: { S: 'RECORD#' + record.eventId }, sk: { S: 'APPLIED' }, expiresAt: { N: String(now + MARKER_TTL_SECONDS) } },
+                              ConditionExpression: 'attribute_not_exists(pk)'
+                            }
+                          }));
+                          const counters = new Map();
+                          for (const record of records) {
+                            const keys = [['USER#' + record.userId, 'TOTAL', null], ['USER#' + record.userId, 'DAY#' + record.day, record.day], ['DAY#' + record.day, 'TOTAL', record.day]];
+                            for (const [pk, sk, day] of keys) {
+                              const counter = counters.get(pk + '|' + sk) || { pk, sk, day, count: 0 };
+                              counter.count++;
+                              counters.set(pk + '|' + sk, counter);
+                            }
+                          }
+                          const updates = [...counters.values()].map((counter) => {
+                            const values = { ':count': { N: String(counter.count) } };
+                            let updateExpression = 'ADD #count :count';
+                            if (counter.day) {
+                              const expiresAt = Date.parse(counter.day) / 1000 + process.env.DAILY_COUNTER_RETENTION_DAYS * 86400;
+                              values[':expiresAt'] = { N: String(expiresAt) };
+                              updateExpression += ' SET expiresAt = :expiresAt';
+                            }
+                            return {
+                              Update: {
+                                TableName: process.env.COUNTERS_TABLE_NAME,
+                                Key: { pk: { S: counter.pk }, sk: { S: counter.sk } },
+                                UpdateExpression: updateExpression,
+                                ExpressionAttributeNames: { '#count': 'count' },
+                                ExpressionAttributeValues: values
+                              }
+                            };
+                          });
+                          return [...markers, ...updates];
+                        }"""))
+                .build();
+
+        // The transactions put the markers and update the counters.
+        this.countersTable.getTable().grant(aggregationFunction, "dynamodb:PutItem", "dynamodb:UpdateItem");
+
+        Queue deadLetterQueue = Queue.Builder.create(this, "aggregationDlq")
+                .retentionPeriod(Duration.days(14))
+                .build();
+
+        // Only new items are counted, updates and deletions (for example by TTL) leave the counts unchanged.
+        aggregationFunction.addEventSource(DynamoEventSource.Builder.create(sourceTable.getTable())
+                .startingPosition(StartingPosition.LATEST)
+                .batchSize(inputParameters.batchSize)
+                .maxBatchingWindow(Duration.seconds(inputParameters.maxBatchingWindowSeconds))
+                .bisectBatchOnError(true)
+                .reportBatchItemFailures(true)
+                .retryAttempts(10)
+                .onFailure(new SqsDlq(deadLetterQueue))
+                .filters(singletonList(FilterCriteria.filter(Map.of(
+                        "eventName", FilterRule.isEqual("INSERT")))))
+                .build());
+
+        applicationEnvironment.tag(this);
+    }
+
+    public DynamoDBTable getCountersTable() {
+        return countersTable;
+    }
+
+    public static class StreamAggregationInputParameters {
+        private final String countersTableName;
+        private String userIdAttribute = "userId";
+        private String timestampAttribute = "timestamp";
+        private int batchSize = 100;
+        private int maxBatchingWindowSeconds = 5;
+        private int dailyCounterRetentionInDays = 400;
+
+        /**
+         * @param countersTableName the name of the counters table, prefixed with the application environment.
+         */
+        public StreamAggregationInputParameters(String countersTableName) {
+            Objects.requireNonNull(countersTableName);
+            this.countersTableName = countersTableName;
+        }
+
+        /**
+         * The attribute of the source items holding the ID of the user.
+         * <p>
+         * Default: "userId".
+         */
+        public StreamAggregationInputParameters withUserIdAttribute(String userIdAttribute) {
+            Objects.requireNonNull(userIdAttribute);
+            this.userIdAttribute = userIdAttribute;
+            return this;
+        }
+
+        /**
+         * The attribute of the source items holding the ISO-8601 timestamp the items are counted by day with.
+         * <p>
+         * Default: "timestamp".
+         */
+        public StreamAggregationInputParameters withTimestampAttribute(String timestampAttribute) {
+            Objects.requireNonNull(timestampAttribute);
+            this.timestampAttribute = timestampAttribute;
+            return this;
+        }
+
+        /**
+         * The maximum number of stream records per invocation. Larger batches update the same counters fewer times.
+         * <p>
+         * Default: 100.
+         */
+        public StreamAggregationInputParameters withBatchSize(int batchSize) {
+            if (batchSize < 1 || batchSize > 10000) {
+                throw new IllegalArgumentException("batchSize must be between 1 and 10000 but was " + batchSize);
+            }
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * How long the stream records are gathered into a batch before the function is invoked, which is also how
+         * much the counters may lag behind.
+         * <p>
+         * Default: 5.
+         */
+        public StreamAggregationInputParameters withMaxBatchingWindowSeconds(int maxBatchingWindowSeconds) {
+            if (maxBatchingWindowSeconds < 0 || maxBatchingWindowSeconds > 300) {
+                throw new IllegalArgumentException("maxBatchingWindowSeconds must be between 0 and 300 but was " + maxBatchingWindowSeconds);
+            }
+            this.maxBatchingWindowSeconds = maxBatchingWindowSeconds;
+            return this;
+        }
+
+        /**
+         * How long the daily counters are kept after their day.
+         * <p>
+         * Default: 400.
+         */
+        public StreamAggregationInputParameters withDailyCounterRetentionInDays(int dailyCounterRetentionInDays) {
+            if (dailyCounterRetentionInDays < 1) {
+                throw new IllegalArgumentException("dailyCounterRetentionInDays must be at least 1 but was " + dailyCounterRetentionInDays);
+            }
+            this.dailyCounterRetentionInDays = dailyCounterRetentionInDays;
+            return this;
+        }
+    }
+}
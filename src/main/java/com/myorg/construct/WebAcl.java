@@ -0,0 +1,332 @@
+package com.myorg.construct;
+
+import software.amazon.awscdk.Duration;
+import software.amazon.awscdk.Environment;
+import software.amazon.awscdk.services.cloudwatch.Dashboard;
+import software.amazon.awscdk.services.cloudwatch.GraphWidget;
+import software.amazon.awscdk.services.cloudwatch.IMetric;
+import software.amazon.awscdk.services.cloudwatch.IWidget;
+import software.amazon.awscdk.services.cloudwatch.Metric;
+import software.amazon.awscdk.services.wafv2.CfnWebACL;
+import software.amazon.awscdk.services.wafv2.CfnWebACLAssociation;
+import software.constructs.Construct;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static java.util.Collections.singletonList;
+
+/**
+ * @author : Nguyen Van Quoc Tuan
+ * @date: 10/19/2026, Monday
+ * @description:
+ *
+ * Protects the load balancer of the {@link Network} construct with a WAF web ACL. The web ACL limits the request
+ * rate per client IP overall and per path, and applies the AWS managed rule groups for known bad inputs, IP
+ * reputation and (optionally) bots. In COUNT mode, matching requests are only counted, so the rules can be
+ * observed in an environment before they start blocking. The WAF metrics are shown on a CloudWatch dashboard.
+ *
+ * Behind the {@link EdgeCache}, all requests reach the load balancer from a few CloudFront IPs, so the rate limits
+ * then count the client IP that CloudFront adds to the X-Forwarded-For header instead (see
+ * {@link WebAclInputParameters#withBehindEdgeCache(boolean)}). The IP reputation list only sees the CloudFront IPs
+ * in that case.
+ *
+ * The following parameters need to exist in the SSM parameter store for this stack to successfully deploy:
+ *****<environmentName>-Network-loadBalancerArn: ARN of the load balancer to protect.
+ **/
+public class WebAcl extends Construct {
+
+    private final CfnWebACL webAcl;
+
+    public WebAcl(
+            final Construct scope,
+            final String id,
+            final Environment awsEnvironment,
+            final ApplicationEnvironment applicationEnvironment,
+            final WebAclInputParameters inputParameters) {
+
+        super(scope, id);
+
+        Network.NetworkOutputParameters networkOutputParameters = Network
+                .getOutputParametersFromParameterStore(this, applicationEnvironment.getEnvironmentName());
+
+        String webAclName = applicationEnvironment.prefix("webAcl");
+        List<CfnWebACL.RuleProperty> rules = new ArrayList<>();
+        // The WAF metrics of a rule are published under the metric name of its visibility config.
+        List<String> ruleMetricNames = new ArrayList<>();
+
+        String aggregateKeyType = inputParameters.behindEdgeCache ? "FORWARDED_IP" : "IP";
+        // Requests without the header come directly from a client, not through CloudFront, so they are rate limited too.
+        CfnWebACL.ForwardedIPConfigurationProperty forwardedIpConfig = inputParameters.behindEdgeCache
+                ? CfnWebACL.ForwardedIPConfigurationProperty.builder()
+                        .headerName("X-Forwarded-For")
+                        .fallbackBehavior("MATCH")
+                        .build()
+                : null;
+
+        ruleMetricNames.add(webAclName + "-rateLimitPerIp");
+        rules.add(CfnWebACL.RuleProperty.builder()
+                .name("rateLimitPerIp")
+                .priority(rules.size())
+                .action(ruleAction(inputParameters.mode))
+                .statement(CfnWebACL.StatementProperty.builder()
+                        .rateBasedStatement(CfnWebACL.RateBasedStatementProperty.builder()
+                                .aggregateKeyType(aggregateKeyType)
+                                .forwardedIpConfig(forwardedIpConfig)
+                                .limit(inputParameters.requestsPerIpLimit)
+                                .evaluationWindowSec(inputParameters.evaluationWindowSeconds)
+                                .build())
+                        .build())
+                .visibilityConfig(visibilityConfig(webAclName + "-rateLimitPerIp"))
+                .build());
+
+        for (Map.Entry<String, Integer> pathLimit : inputParameters.requestsPerIpAndPathLimits.entrySet()) {
+            String ruleName = "rateLimit" + pathLimit.getKey().replaceAll("[^a-zA-Z0-9]", "");
+            ruleMetricNames.add(webAclName + "-" + ruleName);
+            rules.add(CfnWebACL.RuleProperty.builder()
+                    .name(ruleName)
+                    .priority(rules.size())
+                    .action(ruleAction(inputParameters.mode))
+                    .statement(CfnWebACL.StatementProperty.builder()
+                            .rateBasedStatement(CfnWebACL.RateBasedStatementProperty.builder()
+                                    .aggregateKeyType(aggregateKeyType)
+                                    .forwardedIpConfig(forwardedIpConfig)
+                                    .limit(pathLimit.getValue())
+                                    .evaluationWindowSec(inputParameters.evaluationWindowSeconds)
+                                    .scopeDownStatement(CfnWebACL.StatementProperty.builder()
+                                            .byteMatchStatement(CfnWebACL.ByteMatchStatementProperty.builder()
+                                                    .fieldToMatch(CfnWebACL.FieldToMatchProperty.builder()
+                                                            .uriPath(Map.of())
+                                                            .build())
+                                                    .positionalConstraint("STARTS_WITH")
+                                                    // The path is lowercased before matching, so the prefix is too.
+                                                    .searchString(pathLimit.getKey().toLowerCase())
+                                                    .textTransformations(singletonList(CfnWebACL.TextTransformationProperty.builder()
+                                                            .priority(0)
+                                                            .type("LOWERCASE")
+                                                            .build()))
+                                                    .build())
+                                            .build())
+                                    .build())
+                            .build())
+                    .visibilityConfig(visibilityConfig(webAclName + "-" + ruleName))
+                    .build());
+        }
+
+        List<String> managedRuleGroups = new ArrayList<>(List.of(
+                "AWSManagedRulesAmazonIpReputationList",
+                "AWSManagedRulesKnownBadInputsRuleSet"
+        ));
+        if (inputParameters.botControlEnabled) {
+            managedRuleGroups.add("AWSManagedRulesBotControlRuleSet");
+        }
+        for (String managedRuleGroup : managedRuleGroups) {
+            ruleMetricNames.add(webAclName + "-" + managedRuleGroup);
+            rules.add(CfnWebACL.RuleProperty.builder()
+                    .name(managedRuleGroup)
+                    .priority(rules.size())
+                    .overrideAction(overrideAction(inputParameters.mode))
+                    .statement(CfnWebACL.StatementProperty.builder()
+                            .managedRuleGroupStatement(CfnWebACL.ManagedRuleGroupStatementProperty.builder()
+                                    .vendorName("AWS")
+                                    .name(managedRuleGroup)
+                                    .build())
+                            .build())
+                    .visibilityConfig(visibilityConfig(webAclName + "-" + managedRuleGroup))
+                    .build());
+        }
+
+        this.webAcl = CfnWebACL.Builder.create(this, "webAcl")
+                .name(webAclName)
+                .scope("REGIONAL")
+                .defaultAction(CfnWebACL.DefaultActionProperty.builder()
+                        .allow(CfnWebACL.AllowActionProperty.builder().build())
+                        .build())
+                .rules(rules)
+                .visibilityConfig(visibilityConfig(webAclName))
+                .build();
+
+        CfnWebACLAssociation webAclAssociation = CfnWebACLAssociation.Builder.create(this, "webAclAssociation")
+                .resourceArn(networkOutputParameters.getLoadBalancerArn())
+                .webAclArn(this.webAcl.getAttrArn())
+                .build();
+
+        createDashboard(awsEnvironment, applicationEnvironment, webAclName, ruleMetricNames);
+
+        applicationEnvironment.tag(this);
+    }
+
+    public CfnWebACL getWebAcl() {
+        return webAcl;
+    }
+
+    private void createDashboard(
+            Environment awsEnvironment,
+            ApplicationEnvironment applicationEnvironment,
+            String webAclName,
+            List<String> ruleMetricNames) {
+        List<IMetric> blockedOrCountedRequests = new ArrayList<>();
+        for (String ruleMetricName : ruleMetricNames) {
+            blockedOrCountedRequests.add(wafMetric(awsEnvironment, webAclName, ruleMetricName, "BlockedRequests"));
+            blockedOrCountedRequests.add(wafMetric(awsEnvironment, webAclName, ruleMetricName, "CountedRequests"));
+        }
+
+        List<IWidget> widgets = List.of(
+                GraphWidget.Builder.create()
+                        .title("Allowed and blocked requests")
+                        .width(12)
+                        .left(List.of(
+                                wafMetric(awsEnvironment, webAclName, "ALL", "AllowedRequests"),
+                                wafMetric(awsEnvironment, webAclName, "ALL", "BlockedRequests")))
+                        .build(),
+                GraphWidget.Builder.create()
+                        .title("Blocked or counted requests per rule")
+                        .width(12)
+                        .left(blockedOrCountedRequests)
+                        .build()
+        );
+
+        Dashboard.Builder.create(this, "webAclDashboard")
+                .dashboardName(applicationEnvironment.prefix("waf"))
+                .widgets(singletonList(widgets))
+                .build();
+    }
+
+    private static Metric wafMetric(Environment awsEnvironment, String webAclName, String ruleMetricName, String metricName) {
+        return Metric.Builder.create()
+                .namespace("AWS/WAFV2")
+                .metricName(metricName)
+                .dimensionsMap(Map.of(
+                        "WebACL", webAclName,
+                        "Region", awsEnvironment.getRegion(),
+                        "Rule", ruleMetricName))
+                .statistic("Sum")
+                .period(Duration.minutes(1))
+                .label(ruleMetricName + " " + metricName)
+                .build();
+    }
+
+    private static CfnWebACL.VisibilityConfigProperty visibilityConfig(String metricName) {
+        return CfnWebACL.VisibilityConfigProperty.builder()
+                .cloudWatchMetricsEnabled(true)
+                .metricName(metricName)
+                .sampledRequestsEnabled(true)
+                .build();
+    }
+
+    private static CfnWebACL.RuleActionProperty ruleAction(WebAclMode mode) {
+        if (mode == WebAclMode.BLOCK) {
+            return CfnWebACL.RuleActionProperty.builder()
+                    .block(CfnWebACL.BlockActionProperty.builder().build())
+                    .build();
+        }
+        return CfnWebACL.RuleActionProperty.builder()
+                .count(CfnWebACL.CountActionProperty.builder().build())
+                .build();
+    }
+
+    private static CfnWebACL.OverrideActionProperty overrideAction(WebAclMode mode) {
+        if (mode == WebAclMode.BLOCK) {
+            return CfnWebACL.OverrideActionProperty.builder()
+                    .none(Map.of())
+                    .build();
+        }
+        return CfnWebACL.OverrideActionProperty.builder()
+                .count(Map.of())
+                .build();
+    }
+
+    public enum WebAclMode {
+        /**
+         * Requests matching a rule are only counted.
+         */
+        COUNT,
+        /**
+         * Requests matching a rule are blocked.
+         */
+        BLOCK
+    }
+
+    public static class WebAclInputParameters {
+        private WebAclMode mode = WebAclMode.COUNT;
+        private int requestsPerIpLimit = 2000;
+        private Map<String, Integer> requestsPerIpAndPathLimits = new LinkedHashMap<>(Map.of("/orders", 300));
+        private int evaluationWindowSeconds = 300;
+        private boolean botControlEnabled = true;
+        private boolean behindEdgeCache = false;
+
+        /**
+         * Whether requests matching a rule are counted or blocked.
+         * <p>
+         * Default: COUNT.
+         */
+        public WebAclInputParameters withMode(WebAclMode mode) {
+            Objects.requireNonNull(mode);
+            this.mode = mode;
+            return this;
+        }
+
+        /**
+         * The maximum number of requests a single client IP may send within the evaluation window.
+         * <p>
+         * Default: 2000.
+         */
+        public WebAclInputParameters withRequestsPerIpLimit(int requestsPerIpLimit) {
+            if (requestsPerIpLimit < 100) {
+                throw new IllegalArgumentException("requestsPerIpLimit must be at least 100 but was " + requestsPerIpLimit);
+            }
+            this.requestsPerIpLimit = requestsPerIpLimit;
+            return this;
+        }
+
+        /**
+         * The maximum number of requests a single client IP may send to paths starting with the given prefix within
+         * the evaluation window, for example "/orders" -> 300.
+         * <p>
+         * Default: "/orders" -> 300.
+         */
+        public WebAclInputParameters withRequestsPerIpAndPathLimits(Map<String, Integer> requestsPerIpAndPathLimits) {
+            Objects.requireNonNull(requestsPerIpAndPathLimits);
+            this.requestsPerIpAndPathLimits = requestsPerIpAndPathLimits;
+            return this;
+        }
+
+        /**
+         * The time window the rate-based rules count requests in: 60, 120, 300 or 600 seconds.
+         * <p>
+         * Default: 300.
+         */
+        public WebAclInputParameters withEvaluationWindowSeconds(int evaluationWindowSeconds) {
+            if (!List.of(60, 120, 300, 600).contains(evaluationWindowSeconds)) {
+                throw new IllegalArgumentException("evaluationWindowSeconds must be 60, 120, 300 or 600 but was " + evaluationWindowSeconds);
+            }
+            this.evaluationWindowSeconds = evaluationWindowSeconds;
+            return this;
+        }
+
+        /**
+         * Disable or enable the AWS managed Bot Control rule group (charged per request).
+         * <p>
+         * Default: true.
+         */
+        public WebAclInputParameters withBotControlEnabled(boolean botControlEnabled) {
+            this.botControlEnabled = botControlEnabled;
+            return this;
+        }
+
+        /**
+         * Whether the load balancer is behind the {@link EdgeCache}. The rate limits then apply per client IP from the
+         * X-Forwarded-For header rather than per CloudFront IP, which would throttle all clients of an edge location
+         * together. Requests without the header are rate limited as well.
+         * <p>
+         * Default: false.
+         */
+        public WebAclInputParameters withBehindEdgeCache(boolean behindEdgeCache) {
+            this.behindEdgeCache = behindEdgeCache;
+            return this;
+        }
+    }
+}